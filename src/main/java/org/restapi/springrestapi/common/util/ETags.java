@@ -0,0 +1,24 @@
+package org.restapi.springrestapi.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.springframework.util.DigestUtils;
+
+/*
+    조회 응답의 버전 값들로 weak ETag 를 만든다.
+    응답 본문 바이트가 아니라 '같은 내용인지'를 나타내므로 weak(W/) 로 표시한다.
+ */
+public final class ETags {
+    private ETags() {
+    }
+
+    public static String weak(Object... parts) {
+        String joined = Arrays.stream(parts)
+                .map(Objects::toString)
+                .collect(Collectors.joining("-"));
+        return "W/\"" + DigestUtils.md5DigestAsHex(joined.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -5,4 +5,11 @@ import org.springframework.web.multipart.MultipartFile;
 public interface FileStorageService {
     String saveProfileImage(MultipartFile file);
     String savePostImage(MultipartFile file);
-}
\ No newline at end of file
+
+    /*
+        게시글 썸네일이나 프로필 이미지로 연결된 업로드 URL 의 참조를 하나 늘리고, 연결이 끊기면 하나 줄인다.
+        연결을 바꾸는 트랜잭션 안에서 호출한다. null 이나 이 서비스가 발급하지 않은 URL 은 무시한다.
+     */
+    void retain(String url);
+    void release(String url);
+}
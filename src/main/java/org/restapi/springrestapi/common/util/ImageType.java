@@ -0,0 +1,48 @@
+package org.restapi.springrestapi.common.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+
+/*
+    업로드 가능한 이미지 형식. 확장자가 아니라 파일 앞부분의 시그니처(magic bytes)로 판별한다.
+ */
+enum ImageType {
+    PNG("png", Set.of("png"), new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'}),
+    JPEG("jpg", Set.of("jpg", "jpeg"), new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF});
+
+    static final int SIGNATURE_LENGTH = 8;
+
+    private final String extension;
+    private final Set<String> extensions;
+    private final byte[] signature;
+
+    ImageType(String extension, Set<String> extensions, byte[] signature) {
+        this.extension = extension;
+        this.extensions = extensions;
+        this.signature = signature;
+    }
+
+    // 저장할 때 쓰는 확장자. 같은 내용이면 원래 파일명과 관계없이 같은 경로가 된다.
+    String extension() {
+        return extension;
+    }
+
+    boolean matchesExtension(String ext) {
+        return extensions.contains(ext);
+    }
+
+    // 시그니처 길이만큼만 읽는다. 나머지 내용은 읽지 않으므로 스트림은 호출한 쪽에서 닫는다.
+    static Optional<ImageType> sniff(InputStream in) throws IOException {
+        byte[] head = in.readNBytes(SIGNATURE_LENGTH);
+        for (ImageType type : values()) {
+            if (head.length >= type.signature.length
+                    && Arrays.equals(head, 0, type.signature.length, type.signature, 0, type.signature.length)) {
+                return Optional.of(type);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,49 @@
+package org.restapi.springrestapi.common.util;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+    업로드 이미지의 축소본. 원본이 images/ab/{해시}.jpg 이면 축소본은 images/ab/{해시}_{크기}.jpg 이다.
+    축소본은 업로드 후 비동기로 만들어지고, 아직 없으면 /upload/** 에서 원본으로 대신 응답한다.
+    그래서 URL 은 파일 존재 여부와 관계없이 이름 규칙만으로 계산한다.
+ */
+public enum ImageVariant {
+    AVATAR(64),
+    PREVIEW(480);
+
+    private static final Pattern ORIGINAL = Pattern.compile("^(.*images/[0-9a-f]{2}/[0-9a-f]{64})\\.(png|jpg)$");
+    private static final Pattern VARIANT = Pattern.compile("^(.*images/[0-9a-f]{2}/[0-9a-f]{64})_\\d+\\.(png|jpg)$");
+
+    private final int maxSize;
+
+    ImageVariant(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    // 긴 변 기준 최대 픽셀
+    public int maxSize() {
+        return maxSize;
+    }
+
+    // 이 서비스가 저장한 이미지가 아니면(외부 URL, 이전 형식 경로) 원본 URL 을 그대로 돌려준다.
+    public String urlOf(String originalUrl) {
+        if (originalUrl == null) {
+            return null;
+        }
+        Matcher matcher = ORIGINAL.matcher(originalUrl);
+        if (!matcher.matches()) {
+            return originalUrl;
+        }
+        return matcher.group(1) + "_" + maxSize + "." + matcher.group(2);
+    }
+
+    // 축소본 경로이면 원본 경로, 아니면 null
+    static String originalPathOf(String variantPath) {
+        Matcher matcher = VARIANT.matcher(variantPath);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return matcher.group(1) + "." + matcher.group(2);
+    }
+}
@@ -0,0 +1,42 @@
+package org.restapi.springrestapi.common.util;
+
+import java.util.List;
+
+import org.springframework.core.io.Resource;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/*
+    요청한 축소본이 아직 만들어지지 않았으면 원본을 돌려준다.
+    축소본이 생기면 바로 그것을 쓰도록 결과를 캐시하지 않는 resolver 목록에서 사용한다.
+ */
+public class ImageVariantFallbackResolver extends AbstractResourceResolver {
+    // 원본으로 대신 응답한 요청에 표시한다. (UploadResourceHttpRequestHandler 가 캐시 헤더를 바꾸는 데 사용)
+    static final String FALLBACK_ATTRIBUTE = ImageVariantFallbackResolver.class.getName() + ".FALLBACK";
+
+    @Override
+    protected Resource resolveResourceInternal(HttpServletRequest request, String requestPath,
+            List<? extends Resource> locations, ResourceResolverChain chain) {
+        Resource resource = chain.resolveResource(request, requestPath, locations);
+        if (resource != null) {
+            return resource;
+        }
+        String originalPath = ImageVariant.originalPathOf(requestPath);
+        if (originalPath == null) {
+            return null;
+        }
+        Resource original = chain.resolveResource(request, originalPath, locations);
+        if (original != null && request != null) {
+            request.setAttribute(FALLBACK_ATTRIBUTE, Boolean.TRUE);
+        }
+        return original;
+    }
+
+    @Override
+    protected String resolveUrlPathInternal(String resourceUrlPath, List<? extends Resource> locations,
+            ResourceResolverChain chain) {
+        return chain.resolveUrlPath(resourceUrlPath, locations);
+    }
+}
@@ -0,0 +1,213 @@
+package org.restapi.springrestapi.common.util;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+    업로드된 원본으로 ImageVariant 축소본을 만든다.
+    - 업로드 요청을 기다리게 하지 않도록 전용 스레드에서 실행하고, 대기열이 가득 차면 버린다.
+      (축소본이 없으면 원본으로 응답하므로 기능에는 문제가 없다)
+    - 필요한 크기의 2배 정도로 subsampling 해서 디코딩하므로 큰 원본도 메모리를 크게 쓰지 않는다.
+    - 원본이 이미 축소본 크기 이하이면 원본을 축소본 이름으로 링크(지원하지 않으면 복사)한다.
+      축소본 URL 이 원본 대체(no-cache)로 남지 않고 다른 축소본처럼 immutable 로 캐시되게 하기 위해서다.
+ */
+@Slf4j
+@Component
+public class ImageVariantGenerator implements MeterBinder, AutoCloseable {
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder generated = new LongAdder();
+    private final LongAdder linked = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public ImageVariantGenerator(
+            @Value("${app.upload.variants.threads:2}") int threads,
+            @Value("${app.upload.variants.queue-capacity:256}") int queueCapacity
+    ) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "image-variant-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (task, pool) -> dropped.increment()
+        );
+    }
+
+    public void submit(Path original) {
+        executor.execute(() -> generate(original));
+    }
+
+    void generate(Path original) {
+        List<ImageVariant> missing = Arrays.stream(ImageVariant.values())
+                .filter(variant -> !Files.exists(variantPath(original, variant)))
+                .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        try {
+            int largest = missing.stream().mapToInt(ImageVariant::maxSize).max().orElseThrow();
+            BufferedImage source = read(original, largest);
+            if (source == null) {
+                return;
+            }
+            for (ImageVariant variant : missing) {
+                write(source, original, variant);
+            }
+        } catch (IOException | RuntimeException e) {
+            failed.increment();
+            log.warn("Failed to generate image variants of {}", original, e);
+        }
+    }
+
+    static Path variantPath(Path original, ImageVariant variant) {
+        String name = original.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return original.resolveSibling(name.substring(0, dot) + "_" + variant.maxSize() + name.substring(dot));
+    }
+
+    private static BufferedImage read(Path original, int targetSize) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(original.toFile())) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int step = Math.max(1, longest / (targetSize * 2));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private void write(BufferedImage source, Path original, ImageVariant variant) throws IOException {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        if (Math.max(width, height) <= variant.maxSize()) {
+            linkOriginal(original, variantPath(original, variant));
+            return;
+        }
+        double scale = (double) variant.maxSize() / Math.max(width, height);
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        boolean png = original.getFileName().toString().endsWith(".png");
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight,
+                png ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        Path dest = variantPath(original, variant);
+        Path tmp = dest.resolveSibling(dest.getFileName() + ".tmp");
+        try {
+            ImageIO.write(target, png ? "png" : "jpg", tmp.toFile());
+            moveIntoPlace(tmp, dest);
+            generated.increment();
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    // 원본은 내용 해시로 이름이 정해져 바뀌지 않으므로 같은 파일을 가리켜도 된다.
+    private void linkOriginal(Path original, Path dest) throws IOException {
+        Path tmp = dest.resolveSibling(dest.getFileName() + ".tmp");
+        try {
+            Files.deleteIfExists(tmp);
+            try {
+                Files.createLink(tmp, original);
+            } catch (UnsupportedOperationException | IOException e) {
+                Files.copy(original, tmp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            moveIntoPlace(tmp, dest);
+            linked.increment();
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static void moveIntoPlace(Path tmp, Path dest) throws IOException {
+        try {
+            Files.move(tmp, dest, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, dest, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    public long getGeneratedCount() {
+        return generated.sum();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("upload.image.variants", generated, LongAdder::sum)
+                .tag("result", "generated")
+                .register(registry);
+        FunctionCounter.builder("upload.image.variants", linked, LongAdder::sum)
+                .tag("result", "linked")
+                .description("원본이 충분히 작아 원본을 축소본 이름으로 연결한 수")
+                .register(registry);
+        FunctionCounter.builder("upload.image.variants", dropped, LongAdder::sum)
+                .tag("result", "dropped")
+                .description("대기열이 가득 차 만들지 않은 원본 수")
+                .register(registry);
+        FunctionCounter.builder("upload.image.variants", failed, LongAdder::sum)
+                .tag("result", "failed")
+                .register(registry);
+        Gauge.builder("upload.image.variants.queue", executor, pool -> pool.getQueue().size())
+                .register(registry);
+    }
+}
@@ -0,0 +1,178 @@
+package org.restapi.springrestapi.common.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/*
+    자주 조회되는 응답의 직렬화 결과(JSON 바이트와 gzip 바이트) 캐시.
+    - 키는 응답 내용을 결정하는 값(결과 객체 자체)이라, 내용이 바뀌면 키도 바뀌어 따로 비울 필요가 없다.
+    - 여러 요청이 같은 바이트를 받는 응답에만 쓴다. 조회수처럼 요청마다 바뀌는 값이 키에 들어가면 거의 적중하지 않고
+      다른 항목만 밀어내므로, 게시글 상세는 캐시하지 않는다.
+    - 최대 maxSize 개를 LRU 로 유지한다.
+    - 바이트를 그대로 응답하므로 Jackson 변환과 압축이 요청마다 반복되지 않는다.
+      Content-Encoding 을 직접 지정한 응답은 Tomcat 이 다시 압축하지 않는다.
+ */
+@Component
+public class JsonResponseCache implements MeterBinder {
+    private final ObjectMapper objectMapper;
+    private final int maxSize;
+    private final int gzipMinSize;
+    private final Map<Object, Body> entries; // 자기 자신을 락으로 사용
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public JsonResponseCache(
+            ObjectMapper objectMapper,
+            @Value("${app.response-cache.max-size:256}") int maxSize,
+            @Value("${app.response-cache.gzip-min-size:1KB}") DataSize gzipMinSize
+    ) {
+        this.objectMapper = objectMapper;
+        this.maxSize = maxSize;
+        this.gzipMinSize = (int) gzipMinSize.toBytes();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Body> eldest) {
+                return size() > JsonResponseCache.this.maxSize;
+            }
+        };
+    }
+
+    /*
+        key 에 해당하는 직렬화 결과로 응답을 만든다. 없으면 body 를 직렬화해 저장한다.
+        builder 에 지정한 상태/헤더(ETag, Cache-Control 등)는 그대로 유지된다.
+     */
+    public ResponseEntity<byte[]> respond(ResponseEntity.BodyBuilder builder, String acceptEncoding,
+                                          Object key, Supplier<?> body) {
+        Body cached = getOrSerialize(key, body);
+
+        builder.contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (cached.gzip() != null && acceptsGzip(acceptEncoding)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(cached.gzip());
+        }
+        return builder.body(cached.json());
+    }
+
+    Body getOrSerialize(Object key, Supplier<?> body) {
+        synchronized (entries) {
+            Body cached = entries.get(key);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+        misses.increment();
+
+        // 직렬화/압축은 락 밖에서 한다. 같은 키가 동시에 적재되어도 결과는 같으므로 나중 값으로 덮어쓴다.
+        Body serialized = serialize(body.get());
+        synchronized (entries) {
+            entries.put(key, serialized);
+        }
+        return serialized;
+    }
+
+    private Body serialize(Object value) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(value);
+            return new Body(json, json.length < gzipMinSize ? null : gzipIfSmaller(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize response", e);
+        }
+    }
+
+    private static byte[] gzipIfSmaller(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.size() < json.length ? out.toByteArray() : null;
+    }
+
+    // "gzip" 또는 "*" 가 q=0 이 아닌 값으로 포함되어 있는지 확인한다.
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.split(";");
+            String coding = parts[0].trim();
+            if (!coding.equalsIgnoreCase("gzip") && !coding.equals("*")) {
+                continue;
+            }
+            if (!isZeroQuality(parts)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isZeroQuality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].replace(" ", "");
+            if (!param.startsWith("q=")) {
+                continue;
+            }
+            try {
+                return Double.parseDouble(param.substring(2)) == 0;
+            } catch (NumberFormatException e) {
+                return true; // 해석할 수 없으면 압축하지 않은 응답을 보낸다.
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("http.response.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("직렬화/압축 없이 저장된 바이트로 응답한 횟수")
+                .register(registry);
+        FunctionCounter.builder("http.response.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("http.response.cache.size", this, JsonResponseCache::size)
+                .register(registry);
+    }
+
+    // gzip 은 작거나 압축 효과가 없으면 null
+    record Body(byte[] json, byte[] gzip) {
+    }
+}
@@ -7,20 +7,36 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
-import org.apache.commons.io.FileUtils;
 import org.restapi.springrestapi.exception.AppException;
 import org.restapi.springrestapi.exception.code.CommonErrorCode;
 import org.restapi.springrestapi.exception.code.UploadErrorCode;
+import org.restapi.springrestapi.model.StoredImage;
+import org.restapi.springrestapi.repository.StoredImageRepository;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import lombok.RequiredArgsConstructor;
+
+/*
+    업로드 이미지는 내용의 SHA-256 으로 경로를 정한다. (images/{해시 앞 2자리}/{해시}.{확장자})
+    같은 내용이 다시 올라오면 디스크에 쓰지 않고 기존 파일의 URL 을 돌려준다.
+    참조 수는 업로드가 아니라 게시글/사용자에 연결될 때(retain) 늘고 연결이 끊길 때(release) 준다.
+ */
 @Component
+@RequiredArgsConstructor
 public class LocalFileStorageService implements FileStorageService {
+    private final StoredImageRepository storedImageRepository;
+    private final ImageVariantGenerator imageVariantGenerator;
 
     @Value("${app.upload.base-dir}")
     private String baseDir;
@@ -29,30 +45,38 @@ public class LocalFileStorageService implements FileStorageService {
     private String publicBaseUrl;
 
     private static final Set<String> ALLOWED_EXTENSIONS = Set.of("png", "jpg", "jpeg");
+    private static final String IMAGE_DIR = "images";
 
     @Override
     public String saveProfileImage(MultipartFile file) {
-        String ext = validateAndGetExtension(file);
-
-        String randomName = UUID.randomUUID().toString();
-        String relativePath = Paths.get("profile", randomName + "." + ext).toString();
-
-        return save(relativePath, file);
+        return save(validateAndGetType(file), file);
     }
 
     @Override
     public String savePostImage(MultipartFile file) {
-        String ext = validateAndGetExtension(file);
+        return save(validateAndGetType(file), file);
+    }
 
-        String randomName = UUID.randomUUID().toString();
-        String relativePath = Paths.get("post", randomName + "." + ext).toString();
+    @Override
+    public void retain(String url) {
+        String path = toRelativePath(url);
+        if (path != null) {
+            storedImageRepository.increaseRefCount(path);
+        }
+    }
 
-        return save(relativePath, file);
+    @Override
+    public void release(String url) {
+        String path = toRelativePath(url);
+        if (path != null) {
+            storedImageRepository.decreaseRefCount(path);
+        }
     }
 
-    private String save(String relativePath, MultipartFile file) {
-        Path dest = Paths.get(baseDir).resolve(relativePath).normalize();
-        Path folder = dest.getParent();
+    private String save(ImageType type, MultipartFile file) {
+        // 상대 경로 설정이어도 실행 위치와 관계없이 같은 디렉터리를 쓰도록 절대 경로로 바꿔 둔다.
+        Path root = Paths.get(baseDir).toAbsolutePath().normalize();
+        Path folder = root.resolve(IMAGE_DIR);
 
         try {
             Files.createDirectories(folder);
@@ -60,31 +84,77 @@ public class LocalFileStorageService implements FileStorageService {
             throw new AppException(CommonErrorCode.INTERNAL);
         }
 
-        Path tmp = folder.resolve(dest.getFileName() + ".tmp");
+        Path tmp = folder.resolve(UUID.randomUUID() + ".tmp");
 
-        try (InputStream in = file.getInputStream()) {
-            FileUtils.copyInputStreamToFile(in, tmp.toFile());
-            try {
-                Files.move(tmp, dest,
-                        StandardCopyOption.REPLACE_EXISTING,
-                        StandardCopyOption.ATOMIC_MOVE);
-            } catch (AtomicMoveNotSupportedException ex) {
-                Files.move(tmp, dest, StandardCopyOption.REPLACE_EXISTING);
+        try {
+            // 임시 파일로 옮기면서 해시를 같이 계산해, 업로드 내용을 한 번만 읽는다.
+            MessageDigest digest = newSha256();
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(in, tmp);
+            }
+
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            String relativePath = IMAGE_DIR + "/" + sha256.substring(0, 2) + "/" + sha256 + "." + type.extension();
+            Path dest = root.resolve(relativePath);
+
+            // 파일은 지우지 않으므로, 이미 있으면 같은 내용이다.
+            if (Files.exists(dest)) {
+                Files.delete(tmp);
+            } else {
+                Files.createDirectories(dest.getParent());
+                try {
+                    Files.move(tmp, dest,
+                            StandardCopyOption.REPLACE_EXISTING,
+                            StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException ex) {
+                    Files.move(tmp, dest, StandardCopyOption.REPLACE_EXISTING);
+                }
             }
+
+            register(sha256, relativePath, file.getSize());
+            // 이미 있는 축소본은 건너뛰므로, 이전에 만들지 못한 경우에만 다시 만든다.
+            imageVariantGenerator.submit(dest);
+            return toPublicUrl(relativePath);
         } catch (IOException e) {
             try { Files.deleteIfExists(tmp); } catch (IOException ignored) {}
             throw new AppException(CommonErrorCode.INTERNAL);
         }
+    }
+
+    private void register(String sha256, String relativePath, long size) {
+        if (storedImageRepository.existsBySha256(sha256)) {
+            return;
+        }
+        try {
+            storedImageRepository.save(StoredImage.uploaded(sha256, relativePath, size));
+        } catch (DataIntegrityViolationException ignored) {
+            // 같은 내용이 동시에 처음 올라와 다른 요청이 먼저 저장한 경우
+        }
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 
-        return toPublicUrl(relativePath);
+    // 이 서비스가 발급한 URL 이면 base-dir 기준 상대 경로, 아니면 null
+    private String toRelativePath(String url) {
+        String base = publicBase();
+        return url != null && url.startsWith(base) ? url.substring(base.length()) : null;
     }
 
     private String toPublicUrl(String relativePath) {
-        String base = publicBaseUrl.endsWith("/") ? publicBaseUrl : publicBaseUrl + "/";
-        return base + relativePath.replace("\\", "/");
+        return publicBase() + relativePath.replace("\\", "/");
     }
 
-    private String validateAndGetExtension(MultipartFile file) {
+    private String publicBase() {
+        return publicBaseUrl.endsWith("/") ? publicBaseUrl : publicBaseUrl + "/";
+    }
+
+    private ImageType validateAndGetType(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new AppException(CommonErrorCode.BAD_REQUEST);
         }
@@ -97,7 +167,18 @@ public class LocalFileStorageService implements FileStorageService {
         if (!ALLOWED_EXTENSIONS.contains(ext)) {
             throw new AppException(UploadErrorCode.INVALID_FILE_TYPE);
         }
-        return ext;
+        return validateContentType(file, ext);
+    }
+
+    // 확장자만 바꾼 파일을 막기 위해 앞부분 몇 바이트로 실제 형식을 확인한다.
+    private ImageType validateContentType(MultipartFile file, String ext) {
+        try (InputStream in = file.getInputStream()) {
+            return ImageType.sniff(in)
+                    .filter(type -> type.matchesExtension(ext))
+                    .orElseThrow(() -> new AppException(UploadErrorCode.INVALID_FILE_TYPE));
+        } catch (IOException e) {
+            throw new AppException(CommonErrorCode.INTERNAL);
+        }
     }
 
     private String getFileExtension(String fileName) {
@@ -107,4 +188,4 @@ public class LocalFileStorageService implements FileStorageService {
         }
         return fileName.substring(lastDot + 1).toLowerCase();
     }
-}
\ No newline at end of file
+}
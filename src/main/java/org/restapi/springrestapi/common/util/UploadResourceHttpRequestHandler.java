@@ -0,0 +1,35 @@
+package org.restapi.springrestapi.common.util;
+
+import java.io.IOException;
+
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/*
+    /upload/** 전용 핸들러. 업로드 파일은 이름이 내용(해시) 또는 UUID 로 정해져 바뀌지 않으므로
+    파일명을 강한 ETag 로 쓰고 immutable 로 오래 캐시하게 한다.
+    단, 축소본 대신 원본을 돌려준 응답은 곧 축소본으로 바뀌므로 매번 재검증하게 한다.
+    (원본이 축소본 크기 이하인 경우도 ImageVariantGenerator 가 축소본 이름으로 연결하므로, 이 경우는 생성 전까지만 생긴다)
+ */
+public class UploadResourceHttpRequestHandler extends ResourceHttpRequestHandler {
+
+    public UploadResourceHttpRequestHandler() {
+        setEtagGenerator(resource -> "\"" + resource.getFilename() + "\"");
+    }
+
+    @Override
+    protected void setHeaders(HttpServletResponse response, Resource resource, MediaType mediaType) throws IOException {
+        super.setHeaders(response, resource, mediaType);
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null && attributes.getAttribute(
+                ImageVariantFallbackResolver.FALLBACK_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        }
+    }
+}
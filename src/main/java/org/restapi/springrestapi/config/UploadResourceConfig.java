@@ -1,22 +1,57 @@
 package org.restapi.springrestapi.config;
 
-import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
-import org.springframework.beans.factory.annotation.Value;
-
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.restapi.springrestapi.common.util.ImageVariantFallbackResolver;
+import org.restapi.springrestapi.common.util.SendfileResourceHttpMessageConverter;
+import org.restapi.springrestapi.common.util.UploadResourceHttpRequestHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.CacheControl;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.handler.SimpleUrlHandlerMapping;
+import org.springframework.web.servlet.resource.PathResourceResolver;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
 
+/*
+    업로드 파일 응답
+    - Cache-Control: public, max-age=1년, immutable / ETag: 파일명 / Last-Modified
+    - Range 요청은 ResourceHttpRequestHandler 가 206 으로 처리한다.
+    - 큰 파일은 Tomcat sendfile 로 보낸다.
+    컨트롤러(POST /upload/profile 등)보다 뒤, 기본 정적 리소스 매핑보다 앞에서 처리한다.
+ */
 @Configuration
-public class UploadResourceConfig implements WebMvcConfigurer {
+public class UploadResourceConfig {
 
     @Value("${app.upload.base-dir}")
     private String baseDir;
 
-    @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        String location = "file:" + Paths.get(baseDir).toAbsolutePath() + "/";
-        registry.addResourceHandler("/upload/**")
-                .addResourceLocations(location);
+    @Value("${app.upload.cache-max-age:365d}")
+    private Duration cacheMaxAge;
+
+    @Value("${app.upload.sendfile-min-size:48KB}")
+    private DataSize sendfileMinSize;
+
+    @Bean
+    public ResourceHttpRequestHandler uploadResourceHandler() {
+        UploadResourceHttpRequestHandler handler = new UploadResourceHttpRequestHandler();
+        handler.setLocations(List.of(new FileSystemResource(Paths.get(baseDir).toAbsolutePath() + "/")));
+        // 축소본이 생기면 바로 쓰도록 resolve 결과는 캐시하지 않는다.
+        handler.setResourceResolvers(List.of(new ImageVariantFallbackResolver(), new PathResourceResolver()));
+        handler.setCacheControl(CacheControl.maxAge(cacheMaxAge).cachePublic().immutable());
+        handler.setUseLastModified(true);
+        handler.setResourceHttpMessageConverter(new SendfileResourceHttpMessageConverter(sendfileMinSize.toBytes()));
+        return handler;
+    }
+
+    @Bean
+    public SimpleUrlHandlerMapping uploadResourceHandlerMapping(ResourceHttpRequestHandler uploadResourceHandler) {
+        return new SimpleUrlHandlerMapping(Map.of("/upload/**", uploadResourceHandler), Ordered.LOWEST_PRECEDENCE - 2);
     }
-}
\ No newline at end of file
+}
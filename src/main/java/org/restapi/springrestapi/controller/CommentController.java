@@ -9,6 +9,7 @@ import org.restapi.springrestapi.exception.code.SuccessCode;
 import org.restapi.springrestapi.security.CustomUserDetails;
 import org.restapi.springrestapi.service.CommentService;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
@@ -21,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -57,18 +59,27 @@ public class CommentController {
 	}
 
 
-	@Operation(summary = "댓글 목록 조회", description = "특정 게시글의 댓글 목록을 조회합니다.")
+	@Operation(summary = "댓글 목록 조회", description = "특정 게시글의 댓글 목록을 조회합니다. If-None-Match 가 현재 ETag 와 같으면 본문 없이 304 를 반환합니다.")
 	@ApiResponses({
 		@ApiResponse(responseCode = "200", description = "댓글 목록 조회 성공"),
+		@ApiResponse(responseCode = "304", description = "변경 없음"),
 		@ApiResponse(responseCode = "404", description = "댓글을 조회하려는 게시글이 존재하지 않음"),
 	})
 	@GetMapping("/{postId}/comments")
 	public ResponseEntity<APIResponse<CommentListResult>> getCommentAll(
 		@PathVariable Long postId,
 		@RequestParam(required = false) Long cursor,
-		@RequestParam(defaultValue = "10") int limit
+		@RequestParam(defaultValue = "10") int limit,
+		WebRequest webRequest
 	) {
+		final String eTag = commentService.getCommentListETag(postId, cursor, limit);
+		if (webRequest.checkNotModified(eTag)) {
+			return null;
+		}
+
 		return ResponseEntity.ok()
+			.eTag(eTag)
+			.cacheControl(CacheControl.noCache())
 			.body(APIResponse.ok(SuccessCode.GET_SUCCESS,
 				commentService.getCommentList(postId, cursor, limit)));
 	}
@@ -1,8 +1,11 @@
 package org.restapi.springrestapi.controller;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.restapi.springrestapi.common.APIResponse;
+import org.restapi.springrestapi.common.util.JsonResponseCache;
 import org.restapi.springrestapi.dto.post.PatchPostRequest;
+import org.restapi.springrestapi.dto.post.PostDetailResult;
 import org.restapi.springrestapi.dto.post.PostListResult;
 import org.restapi.springrestapi.dto.post.PostResult;
 import org.restapi.springrestapi.dto.post.CreatePostRequest;
@@ -10,6 +13,9 @@ import org.restapi.springrestapi.exception.code.SuccessCode;
 import org.restapi.springrestapi.security.CustomUserDetails;
 import org.restapi.springrestapi.service.post.PostLikeService;
 import org.restapi.springrestapi.service.post.PostService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
@@ -20,10 +26,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -38,6 +48,7 @@ import lombok.RequiredArgsConstructor;
 public class PostController {
 	private final PostService postService;
     private final PostLikeService postLikeService;
+    private final JsonResponseCache jsonResponseCache;
 
 
     @Operation(summary = "게시글 등록", description = "새로운 게시글을 등록합니다.")
@@ -57,37 +68,59 @@ public class PostController {
 	}
 
 
-	@Operation(summary = "게시글 목록 조회", description = "커서 기반으로 게시글 목록을 조회합니다.")
+	@Operation(summary = "게시글 목록 조회", description = "커서 기반으로 게시글 목록을 조회합니다. 로그인 상태라면 각 게시글의 좋아요 여부를 함께 반환합니다.")
 	@ApiResponses({
-		@ApiResponse(responseCode = "200", description = "게시글 목록 조회 성공")
+		@ApiResponse(responseCode = "200", description = "게시글 목록 조회 성공",
+			content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = PostListResponse.class)))
 	})
 	@GetMapping
-	public ResponseEntity<APIResponse<PostListResult>> getPostList(
+	public ResponseEntity<byte[]> getPostList(
 		@RequestParam(required = false) Long cursor,
-		@RequestParam(defaultValue = "10") int limit
+		@RequestParam(defaultValue = "10") int limit,
+		@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+        @AuthenticationPrincipal CustomUserDetails principal
 	) {
-		return ResponseEntity.ok()
-			.body(APIResponse.ok(SuccessCode.GET_SUCCESS,
-				postService.getPostList(cursor, limit)));
+		final Long userId = (principal != null) ? principal.getId() : null;
+
+		// 결과 값 자체를 키로 쓰므로, 좋아요가 없는 로그인 사용자도 비로그인 응답과 같은 바이트를 공유한다.
+		final PostListResult postList = postService.getPostList(userId, cursor, limit);
+		return jsonResponseCache.respond(ResponseEntity.ok(), acceptEncoding, postList,
+			() -> APIResponse.ok(SuccessCode.GET_SUCCESS, postList));
 	}
 
 
-	@Operation(summary = "게시글 상세 조회", description = "게시글 상세 정보를 조회합니다.")
+	@Operation(summary = "게시글 상세 조회", description = "게시글 상세 정보를 조회합니다. If-None-Match 가 현재 ETag 와 같으면 본문 없이 304 를 반환합니다.")
 	@ApiResponses({
 		@ApiResponse(responseCode = "200", description = "게시글 조회 성공"),
+		@ApiResponse(responseCode = "304", description = "변경 없음"),
 		@ApiResponse(responseCode = "404", description = "조회하려는 게시글이 없음")
 	})
 	@GetMapping("/{id}")
 	public ResponseEntity<APIResponse<PostResult>> getPostDetail(
 		@PathVariable Long id,
         HttpServletRequest request,
+        HttpServletResponse response,
+        WebRequest webRequest,
         @AuthenticationPrincipal CustomUserDetails principal
 	) {
 		final Long userId = (principal != null) ? principal.getId() : null;
 
+		// 본문 없이 버전만 읽는 조회는 비교할 ETag 가 있을 때만 한다. 없으면 상세 조회 한 번으로 끝난다.
+		if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+			&& webRequest.checkNotModified(postService.getPostETag(userId, id))) {
+			postService.recordView(request, userId, id);
+			return null;
+		}
+
+		final PostDetailResult detail = postService.getPost(userId, id);
+		postService.recordView(request, userId, id);
+
+		// checkNotModified 가 넣어 둔 헤더는 본문보다 먼저 읽은 값이라, 본문과 같은 조회 결과로 만든 ETag 로 바꾼다.
+		// didLike 가 사용자마다 다르므로 공유 캐시에는 저장되지 않게 private 으로 둔다.
+		response.setHeader(HttpHeaders.ETAG, detail.eTag());
 		return ResponseEntity.ok()
-			.body(APIResponse.ok(SuccessCode.GET_SUCCESS,
-				postService.getPost(request, userId, id)));
+			.cacheControl(CacheControl.noCache().cachePrivate())
+			.body(APIResponse.ok(SuccessCode.GET_SUCCESS, detail.post()));
 	}
 
 
@@ -142,4 +175,12 @@ public class PostController {
 		postService.deletePost(principal.getId(), id);
 		return ResponseEntity.noContent().build();
 	}
+
+	// 목록 조회는 직렬화해 둔 바이트(byte[])로 응답하므로, 문서에 실제 응답 형태를 따로 알려 준다.
+	@Schema(name = "PostListResponse")
+	static class PostListResponse extends APIResponse<PostListResult> {
+		PostListResponse() {
+			super(null, null, null);
+		}
+	}
 }
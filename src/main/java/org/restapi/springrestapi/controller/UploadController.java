@@ -41,7 +41,7 @@ public class UploadController {
         String url = fileStorageService.saveProfileImage(image);
 
         return ResponseEntity.status(201)
-                .body(APIResponse.ok(SuccessCode.REGISTER_SUCCESS, new UploadImageResponse(url)));
+                .body(APIResponse.ok(SuccessCode.REGISTER_SUCCESS, UploadImageResponse.from(url)));
     }
 
     @Operation(summary = "게시글 대표 이미지 업로드 api", description = "게시글 대표 이미지를 업로드하고 URL을 반환합니다.")
@@ -60,6 +60,6 @@ public class UploadController {
         String url = fileStorageService.savePostImage(image);
 
         return ResponseEntity.status(201)
-                .body(APIResponse.ok(SuccessCode.REGISTER_SUCCESS, new UploadImageResponse(url)));
+                .body(APIResponse.ok(SuccessCode.REGISTER_SUCCESS, UploadImageResponse.from(url)));
     }
 }
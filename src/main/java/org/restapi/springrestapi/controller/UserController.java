@@ -1,16 +1,19 @@
 package org.restapi.springrestapi.controller;
 
 import org.restapi.springrestapi.dto.user.ChangePasswordRequest;
+import org.restapi.springrestapi.dto.user.NicknameAvailabilityResult;
 import org.restapi.springrestapi.dto.user.PatchProfileRequest;
 import org.restapi.springrestapi.dto.user.UserProfileResult;
 import org.restapi.springrestapi.exception.code.SuccessCode;
 import org.restapi.springrestapi.security.CustomUserDetails;
 import org.restapi.springrestapi.common.APIResponse;
 import org.restapi.springrestapi.service.UserService;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -28,16 +31,40 @@ public class UserController {
 	private final UserService userService;
 
 
-	@Operation(summary = "사용자 정보 조회", description = "사용자 ID로 프로필을 조회합니다.")
+	@Operation(summary = "닉네임 사용 가능 여부 조회", description = "가입/수정 전에 닉네임 중복 여부를 확인합니다.")
+	@ApiResponses({
+		@ApiResponse(responseCode = "200", description = "조회 성공"),
+		@ApiResponse(responseCode = "400", description = "닉네임 누락")
+	})
+	@GetMapping("/nickname-availability")
+	public ResponseEntity<APIResponse<NicknameAvailabilityResult>> checkNicknameAvailability(
+		@RequestParam String nickname
+	) {
+		return ResponseEntity.ok()
+                .body(APIResponse.ok(SuccessCode.GET_SUCCESS,
+					userService.checkNicknameAvailability(nickname)));
+	}
+
+
+	@Operation(summary = "사용자 정보 조회", description = "사용자 ID로 프로필을 조회합니다. If-None-Match 가 현재 ETag 와 같으면 본문 없이 304 를 반환합니다.")
 	@ApiResponses({
 		@ApiResponse(responseCode = "200", description = "사용자 정보 조회 성공"),
+		@ApiResponse(responseCode = "304", description = "변경 없음"),
 		@ApiResponse(responseCode = "404", description = "존재하지 않는 사용자.")
 	})
 	@GetMapping("/{id}")
 	public ResponseEntity<APIResponse<UserProfileResult>> getUserProfile(
-		@PathVariable Long id
+		@PathVariable Long id,
+		WebRequest webRequest
 	) {
+		final String eTag = userService.getUserProfileETag(id);
+		if (webRequest.checkNotModified(eTag)) {
+			return null;
+		}
+
 		return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
                 .body(APIResponse.ok(SuccessCode.GET_SUCCESS,
 					userService.getUserProfile(id)));
 	}
@@ -72,7 +99,7 @@ public class UserController {
 		@Valid @RequestBody ChangePasswordRequest request,
         @AuthenticationPrincipal CustomUserDetails principal
 	) {
-		userService.updatePassword(principal.user(), request);
+		userService.updatePassword(principal.getId(), request);
 		return ResponseEntity.noContent().build();
 	}
 
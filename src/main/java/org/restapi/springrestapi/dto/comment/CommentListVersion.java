@@ -0,0 +1,11 @@
+package org.restapi.springrestapi.dto.comment;
+
+import java.time.LocalDateTime;
+
+// 게시글의 댓글 목록이 바뀌었는지 판단하는 집계 값. 작성/삭제는 count 와 maxId, 수정은 lastUpdatedAt 으로 드러난다.
+public record CommentListVersion(
+    long count,
+    Long maxId,
+    LocalDateTime lastUpdatedAt,
+    LocalDateTime lastProfileUpdatedAt
+) {}
@@ -2,6 +2,7 @@ package org.restapi.springrestapi.dto.comment;
 
 import java.time.LocalDateTime;
 
+import org.restapi.springrestapi.common.util.ImageVariant;
 import org.restapi.springrestapi.model.Comment;
 
 import lombok.Builder;
@@ -12,6 +13,7 @@ public record CommentResult(
     Long userId,
     String userNickname,
     String userProfileImageUrl,
+    String userProfileAvatarUrl,
     String content,
 	LocalDateTime createAt,
 	LocalDateTime updateAt
@@ -22,6 +24,7 @@ public record CommentResult(
 			.userId(comment.getUser().getId())
 			.userNickname(comment.getUser().getNickname())
 			.userProfileImageUrl(comment.getUser().getProfileImageUrl())
+			.userProfileAvatarUrl(ImageVariant.AVATAR.urlOf(comment.getUser().getProfileImageUrl()))
 			.content(comment.getContent())
 			.createAt(comment.getCreatedAt())
 			.updateAt(comment.getUpdatedAt())
@@ -0,0 +1,21 @@
+package org.restapi.springrestapi.dto.post;
+
+import java.time.LocalDateTime;
+
+public record PostDetailProjection(
+        Long postId,
+        String title,
+        String content,
+        String thumbnailImageUrl,
+        int likeCount,
+        int commentCount,
+        int viewCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long authorId,
+        String authorNickname,
+        String authorProfileImageUrl,
+        LocalDateTime authorProfileUpdatedAt,
+        boolean didLike
+) {
+}
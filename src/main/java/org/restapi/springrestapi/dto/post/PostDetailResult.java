@@ -0,0 +1,7 @@
+package org.restapi.springrestapi.dto.post;
+
+// 게시글 상세 응답 본문과, 같은 조회 결과로 만든 ETag
+public record PostDetailResult(
+    String eTag,
+    PostResult post
+) {}
@@ -0,0 +1,8 @@
+package org.restapi.springrestapi.dto.post;
+
+public record PostLikeState(
+        boolean didLike,
+        boolean userExists,
+        int likeCount
+) {
+}
@@ -1,20 +1,23 @@
 package org.restapi.springrestapi.dto.post;
 
 import java.time.LocalDateTime;
+import org.restapi.springrestapi.common.util.ImageVariant;
 import org.restapi.springrestapi.model.Post;
 
 import lombok.Builder;
 
-@Builder
+@Builder(toBuilder = true)
 public record PostResult (
 	Long id,
     Long userId,
     String userNickname,
     String userProfileImageUrl,
+    String userProfileAvatarUrl,
 
 	String title,
 	String content,
     String thumbnailImageUrl,
+    String thumbnailPreviewUrl,
 	boolean didLike,
 
 	int likeCount,
@@ -29,9 +32,11 @@ public record PostResult (
             .userId(post.getAuthor().getId())
             .userNickname(post.getAuthor().getNickname())
             .userProfileImageUrl(post.getAuthor().getProfileImageUrl())
+            .userProfileAvatarUrl(ImageVariant.AVATAR.urlOf(post.getAuthor().getProfileImageUrl()))
 			.title(post.getTitle())
 			.content(post.getContent())
             .thumbnailImageUrl(post.getThumbnailImageUrl())
+            .thumbnailPreviewUrl(ImageVariant.PREVIEW.urlOf(post.getThumbnailImageUrl()))
 			.likeCount(post.getLikeCount())
 			.commentCount(post.getCommentCount())
 			.viewCount(post.getViewCount())
@@ -39,4 +44,42 @@ public record PostResult (
             .didLike(didLike)
 			.build();
 	}
+
+	public static PostResult from(PostDetailProjection projection) {
+		return PostResult.builder()
+			.id(projection.postId())
+            .userId(projection.authorId())
+            .userNickname(projection.authorNickname())
+            .userProfileImageUrl(projection.authorProfileImageUrl())
+            .userProfileAvatarUrl(ImageVariant.AVATAR.urlOf(projection.authorProfileImageUrl()))
+			.title(projection.title())
+			.content(projection.content())
+            .thumbnailImageUrl(projection.thumbnailImageUrl())
+            .thumbnailPreviewUrl(ImageVariant.PREVIEW.urlOf(projection.thumbnailImageUrl()))
+			.likeCount(projection.likeCount())
+			.commentCount(projection.commentCount())
+			.viewCount(projection.viewCount())
+			.createdAt(projection.createdAt())
+            .didLike(projection.didLike())
+			.build();
+	}
+
+	public static PostResult from(PostSummaryProjection projection, boolean didLike) {
+		return PostResult.builder()
+			.id(projection.postId())
+            .userId(projection.authorId())
+            .userNickname(projection.authorNickname())
+            .userProfileImageUrl(projection.authorProfileImageUrl())
+            .userProfileAvatarUrl(ImageVariant.AVATAR.urlOf(projection.authorProfileImageUrl()))
+			.title(projection.title())
+			.content(projection.content())
+            .thumbnailImageUrl(projection.thumbnailImageUrl())
+            .thumbnailPreviewUrl(ImageVariant.PREVIEW.urlOf(projection.thumbnailImageUrl()))
+			.likeCount(projection.likeCount())
+			.commentCount(projection.commentCount())
+			.viewCount(projection.viewCount())
+			.createdAt(projection.createdAt())
+            .didLike(didLike)
+			.build();
+	}
 }
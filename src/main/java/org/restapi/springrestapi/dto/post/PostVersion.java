@@ -0,0 +1,21 @@
+package org.restapi.springrestapi.dto.post;
+
+import java.time.LocalDateTime;
+
+// 게시글 상세 응답이 바뀌었는지 판단하는 데 필요한 값만 모은 것 (본문 등은 updatedAt 으로 대신하고, 조회수는 넣지 않는다)
+public record PostVersion(
+    LocalDateTime updatedAt,
+    int likeCount,
+    int commentCount,
+    LocalDateTime authorProfileUpdatedAt,
+    boolean didLike
+) {
+    public static PostVersion from(PostDetailProjection projection) {
+        return new PostVersion(
+            projection.updatedAt(),
+            projection.likeCount(),
+            projection.commentCount(),
+            projection.authorProfileUpdatedAt(),
+            projection.didLike());
+    }
+}
@@ -1,5 +1,17 @@
 package org.restapi.springrestapi.dto.upload;
 
+import org.restapi.springrestapi.common.util.ImageVariant;
+
 public record UploadImageResponse(
-	String imageUrl
-) { }
+	String imageUrl,
+	String avatarUrl,
+	String previewUrl
+) {
+	public static UploadImageResponse from(String imageUrl) {
+		return new UploadImageResponse(
+			imageUrl,
+			ImageVariant.AVATAR.urlOf(imageUrl),
+			ImageVariant.PREVIEW.urlOf(imageUrl)
+		);
+	}
+}
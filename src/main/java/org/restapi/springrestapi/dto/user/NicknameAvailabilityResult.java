@@ -0,0 +1,6 @@
+package org.restapi.springrestapi.dto.user;
+
+public record NicknameAvailabilityResult(
+	boolean available
+) {
+}
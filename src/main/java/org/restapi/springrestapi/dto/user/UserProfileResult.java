@@ -1,5 +1,6 @@
 package org.restapi.springrestapi.dto.user;
 
+import org.restapi.springrestapi.common.util.ImageVariant;
 import org.restapi.springrestapi.model.User;
 
 import lombok.Builder;
@@ -9,7 +10,8 @@ public record UserProfileResult(
 	Long id,
     String email,
 	String nickname,
-	String profileImageUrl
+	String profileImageUrl,
+	String profileAvatarUrl
 ) {
 	public static UserProfileResult from(User userProfileResult) {
 		return UserProfileResult.builder()
@@ -17,6 +19,7 @@ public record UserProfileResult(
 			.email(userProfileResult.getEmail())
 			.nickname(userProfileResult.getNickname())
 			.profileImageUrl(userProfileResult.getProfileImageUrl())
+			.profileAvatarUrl(ImageVariant.AVATAR.urlOf(userProfileResult.getProfileImageUrl()))
 			.build();
 	}
 }
@@ -0,0 +1,8 @@
+package org.restapi.springrestapi.dto.user;
+
+import java.time.LocalDateTime;
+
+public record UserVersion(
+	Long id,
+	LocalDateTime profileUpdatedAt
+) {}
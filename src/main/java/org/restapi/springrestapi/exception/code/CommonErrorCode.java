@@ -9,7 +9,8 @@ import org.springframework.http.HttpStatus;
 public enum CommonErrorCode implements ErrorCode {
 	NOT_FOUND(HttpStatus.NOT_FOUND, "COMMON000","찾을 수 없는 자원"),
     BAD_REQUEST(HttpStatus.BAD_REQUEST, "COMMON001","올바르지 않은 요청: %s"),
-	INTERNAL(HttpStatus.INTERNAL_SERVER_ERROR, "COMMON002","API 서버 에러");
+	INTERNAL(HttpStatus.INTERNAL_SERVER_ERROR, "COMMON002","API 서버 에러"),
+	SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "COMMON003","요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
 
 	private final HttpStatus status;
     private final String code;
@@ -1,6 +1,7 @@
 package org.restapi.springrestapi.finder;
 
 
+import org.restapi.springrestapi.dto.comment.CommentListVersion;
 import org.restapi.springrestapi.exception.AppException;
 import org.restapi.springrestapi.exception.code.CommentErrorCode;
 import org.restapi.springrestapi.model.Comment;
@@ -31,4 +32,8 @@ public class CommentFinder {
         }
         return commentRepository.findSlice(postId, cursor, PageRequest.of(0, SIZE));
     }
+
+    public CommentListVersion findListVersion(Long postId) {
+        return commentRepository.findListVersion(postId);
+    }
 }
@@ -1,6 +1,14 @@
 package org.restapi.springrestapi.finder;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.restapi.springrestapi.dto.post.PostDetailProjection;
+import org.restapi.springrestapi.dto.post.PostLikeState;
 import org.restapi.springrestapi.dto.post.PostResult;
+import org.restapi.springrestapi.dto.post.PostSummaryProjection;
+import org.restapi.springrestapi.dto.post.PostVersion;
 import org.restapi.springrestapi.exception.AppException;
 import org.restapi.springrestapi.exception.code.CommentErrorCode;
 import org.restapi.springrestapi.exception.code.PostErrorCode;
@@ -34,12 +42,28 @@ public class PostFinder {
 
         // check limit range
         final int SIZE = Math.min(Math.max(limit, 1), 10);
-        if (cursor == null) {
-            return postRepository.findSlice(PageRequest.of(0, SIZE));
-        }
-        return postRepository.findSlice(cursor, PageRequest.of(0, SIZE));
+        Slice<PostSummaryProjection> slice = (cursor == null)
+                ? postRepository.findFeedSlice(PageRequest.of(0, SIZE))
+                : postRepository.findFeedSlice(cursor, PageRequest.of(0, SIZE));
+
+        return slice.map(projection -> PostResult.from(projection, false));
     }
 
+	public PostDetailProjection findPostDetailOrThrow(Long id, Long userIdOrNull) {
+		return postRepository.findDetailById(id, userIdOrNull)
+				.orElseThrow(() -> new AppException(PostErrorCode.POST_NOT_FOUND));
+	}
+
+	public PostVersion findVersionOrThrow(Long id, Long userIdOrNull) {
+		return postRepository.findVersionById(id, userIdOrNull)
+				.orElseThrow(() -> new AppException(PostErrorCode.POST_NOT_FOUND));
+	}
+
+	public PostLikeState findLikeStateOrThrow(Long postId, Long userId) {
+		return postRepository.findLikeState(postId, userId)
+				.orElseThrow(() -> new AppException(PostErrorCode.POST_NOT_FOUND));
+	}
+
 	public void existsByIdOrThrow(Long id) {
 		if (!postRepository.existsById(id)) {
 			throw new AppException(CommentErrorCode.COMMENT_NOT_FOUND);
@@ -52,4 +76,11 @@ public class PostFinder {
 		}
 		return postLikeRepository.existsByUserIdAndPostId(userIdOrNull, postId);
 	}
+
+	public Set<Long> findLikedPostIds(Long userIdOrNull, Collection<Long> postIds) {
+		if (userIdOrNull == null || postIds.isEmpty()) {
+			return Set.of();
+		}
+		return new HashSet<>(postLikeRepository.findLikedPostIds(userIdOrNull, postIds));
+	}
 }
@@ -4,6 +4,7 @@ import org.restapi.springrestapi.exception.AppException;
 import org.restapi.springrestapi.exception.code.AuthErrorCode;
 import org.restapi.springrestapi.exception.code.ErrorCode;
 import org.restapi.springrestapi.exception.code.UserErrorCode;
+import org.restapi.springrestapi.dto.user.UserVersion;
 import org.restapi.springrestapi.model.User;
 import org.restapi.springrestapi.repository.UserRepository;
 import org.springframework.stereotype.Component;
@@ -11,6 +12,8 @@ import org.springframework.stereotype.Component;
 import lombok.RequiredArgsConstructor;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 
 @Component
 @RequiredArgsConstructor
@@ -40,6 +43,11 @@ public class UserFinder {
         return findByIdOrThrow(id, AuthErrorCode.UNAUTHORIZED);
     }
 
+	public UserVersion findVersionOrThrow(Long id) {
+		return userRepository.findVersionById(id)
+				.orElseThrow(() -> new AppException(UserErrorCode.USER_NOT_FOUND));
+	}
+
 	public void existsByIdOrThrow(Long id) {
 		if (!userRepository.existsById(id)) {
             throw new AppException(UserErrorCode.USER_NOT_FOUND);
@@ -54,6 +62,10 @@ public class UserFinder {
 		return userRepository.existsByNickname(nickName);
 	}
 
+	public List<String> findAllNicknames() {
+		return userRepository.findAllNicknames();
+	}
+
 
     public User findByEmailOrAuthThrow(String email) {
         return userRepository.findByEmail(email).orElseThrow(
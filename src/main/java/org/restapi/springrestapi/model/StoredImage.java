@@ -0,0 +1,54 @@
+package org.restapi.springrestapi.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+    내용(SHA-256) 기준으로 한 번만 저장된 업로드 이미지.
+    refCount 는 이 파일 URL 을 쓰고 있는 게시글 썸네일과 프로필 이미지 수다. 업로드만 하고 연결하지 않았다면 0 이다.
+    0 이 되어도 같은 내용이 다시 올라올 수 있으므로 행과 파일은 지우지 않는다.
+ */
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+@Table(name = "stored_images")
+public class StoredImage {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, updatable = false, length = 64)
+    private String sha256;
+
+    // upload base-dir 기준 상대 경로
+    @Column(nullable = false, unique = true, updatable = false)
+    private String path;
+
+    @Column(nullable = false, updatable = false)
+    private long size;
+
+    private int refCount;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    private void prePersist() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public static StoredImage uploaded(String sha256, String path, long size) {
+        return StoredImage.builder()
+                .sha256(sha256)
+                .path(path)
+                .size(size)
+                .refCount(0)
+                .build();
+    }
+}
@@ -26,7 +26,11 @@ import java.util.List;
 @Builder(toBuilder = true)
 @SQLDelete(sql = "UPDATE users SET deleted_at = NOW() WHERE id = ?")
 @SQLRestriction("deleted_at IS NULL")
-@Table(name="users")
+// 탈퇴한 행도 이메일/닉네임을 그대로 가지고 있으므로 unique 가 아닌 일반 인덱스로 둔다.
+@Table(name="users", indexes = {
+        @Index(name = "idx_users_email", columnList = "email"),
+        @Index(name = "idx_users_nickname", columnList = "nickname")
+})
 public class User {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
@@ -49,6 +53,9 @@ public class User {
 
     private LocalDateTime deletedAt;
 
+    // 닉네임/프로필 이미지 변경 시각. 프로필, 게시글, 댓글 응답의 ETag 에 쓰인다.
+    private LocalDateTime profileUpdatedAt;
+
     @OneToMany(mappedBy = "author")
     @Builder.Default
     private List<Post> posts = new ArrayList<>();
@@ -60,6 +67,7 @@ public class User {
     @PrePersist
     private void prePersist() {
         this.joinAt = LocalDateTime.now();
+        this.profileUpdatedAt = this.joinAt;
     }
 
     public static User from(
@@ -83,6 +91,7 @@ public class User {
         } else if (req.profileImageUrl() != null){
             this.profileImageUrl = req.profileImageUrl().trim();
         }
+        this.profileUpdatedAt = LocalDateTime.now();
     }
 
     public void updatePassword(EncodedPassword password) {
@@ -1,5 +1,6 @@
 package org.restapi.springrestapi.repository;
 
+import org.restapi.springrestapi.dto.comment.CommentListVersion;
 import org.restapi.springrestapi.dto.comment.CommentSummaryProjection;
 import org.restapi.springrestapi.model.Comment;
 import org.springframework.data.domain.Pageable;
@@ -13,6 +14,17 @@ import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+	// 댓글 목록 응답의 ETag 용
+	@Query("""
+            SELECT new org.restapi.springrestapi.dto.comment.CommentListVersion(
+                COUNT(c), MAX(c.id), MAX(c.updatedAt), MAX(u.profileUpdatedAt)
+            )
+            FROM Comment c
+            JOIN c.user u
+            WHERE c.post.id = :postId
+            """)
+	CommentListVersion findListVersion(@Param("postId") Long postId);
+
 	@Query("""
             SELECT c
             FROM Comment c
@@ -1,9 +1,39 @@
 package org.restapi.springrestapi.repository;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.restapi.springrestapi.model.PostLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     boolean existsByUserIdAndPostId(Long userId, Long postId);
     PostLike findByUserIdAndPostId(Long userId, Long postId);
+
+    // 목록 한 페이지의 좋아요 여부를 (user_id, post_id) 유니크 인덱스로 한 번에 조회한다.
+    @Query("SELECT pl.post.id FROM PostLike pl WHERE pl.user.id = :userId AND pl.post.id IN :postIds")
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
+    /*
+        좋아요 토글용 조건부 쓰기. 영향받은 행 수(0 또는 1)로 실제 변경 여부를 판단한다.
+        - 추가할 행은 게시글과 탈퇴하지 않은 사용자에서 SELECT 하므로, 둘 중 하나라도 없으면 넣을 행이 없어 0건이다.
+          그래서 IGNORE 가 삼키는 오류는 유니크 제약 위반(동시에 같은 좋아요를 추가한 경우)뿐이고, 외래 키 오류를 숨기지 않는다.
+        - 이미 지워진 좋아요를 다시 지우면 0건으로 끝난다.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO post_like (user_id, post_id)
+        SELECT u.id, p.id
+        FROM users u
+        JOIN post p ON p.id = :postId
+        WHERE u.id = :userId AND u.deleted_at IS NULL
+    """, nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    @Modifying
+    @Query(value = "DELETE FROM post_like WHERE user_id = :userId AND post_id = :postId", nativeQuery = true)
+    int deleteIfPresent(@Param("userId") Long userId, @Param("postId") Long postId);
 }
@@ -1,6 +1,8 @@
 package org.restapi.springrestapi.repository;
 
-import org.restapi.springrestapi.dto.post.PostResult;
+import org.restapi.springrestapi.dto.post.PostDetailProjection;
+import org.restapi.springrestapi.dto.post.PostVersion;
+import org.restapi.springrestapi.dto.post.PostLikeState;
 import org.restapi.springrestapi.dto.post.PostSummaryProjection;
 import org.restapi.springrestapi.model.Post;
 import org.springframework.data.domain.Slice;
@@ -14,24 +16,99 @@ import org.springframework.data.domain.Pageable;
 import java.util.List;
 import java.util.Optional;
 
-public interface PostRepository extends JpaRepository<Post, Long> {
+public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
 
+    /*
+        게시글 목록(피드) 조회.
+        엔티티를 로딩하지 않고 필요한 컬럼만 DTO로 받아, 영속성 컨텍스트를 비워둔 채로 응답을 만든다.
+        커서(마지막으로 받은 게시글 id) 이후를 PK 인덱스로 바로 찾아가는 keyset 방식이라 offset 스캔이 없다.
+     */
 	@Query("""
-        SELECT p 
-        FROM Post p 
-        JOIN FETCH p.author
+        SELECT new org.restapi.springrestapi.dto.post.PostSummaryProjection(
+            p.id,
+            p.title,
+            p.content,
+            p.thumbnailImageUrl,
+            p.likeCount,
+            p.commentCount,
+            p.viewCount,
+            p.createdAt,
+            a.id,
+            a.nickname,
+            a.profileImageUrl
+        )
+        FROM Post p
+        JOIN p.author a
         ORDER BY p.id DESC
     """)
-	Slice<PostResult> findSlice(Pageable pageable);
+	Slice<PostSummaryProjection> findFeedSlice(Pageable pageable);
 
 	@Query("""
-        SELECT p 
-        FROM Post p 
-        JOIN FETCH p.author 
-        WHERE p.id < :cursorId 
+        SELECT new org.restapi.springrestapi.dto.post.PostSummaryProjection(
+            p.id,
+            p.title,
+            p.content,
+            p.thumbnailImageUrl,
+            p.likeCount,
+            p.commentCount,
+            p.viewCount,
+            p.createdAt,
+            a.id,
+            a.nickname,
+            a.profileImageUrl
+        )
+        FROM Post p
+        JOIN p.author a
+        WHERE p.id < :cursorId
         ORDER BY p.id DESC
     """)
-	Slice<PostResult> findSlice(@Param("cursorId") Long cursorId, Pageable pageable);
+	Slice<PostSummaryProjection> findFeedSlice(@Param("cursorId") Long cursorId, Pageable pageable);
+
+    /*
+        게시글 상세 조회.
+        게시글, 작성자 정보, 요청자의 좋아요 여부를 한 번의 쿼리로 가져온다.
+        (user_id, post_id) 유니크 제약으로 PostLike 는 최대 한 건만 join 되며, 비로그인(:userId = null)이면 항상 false 다.
+        응답의 ETag 도 같은 행으로 만들 수 있도록 PostVersion 에 들어가는 값을 함께 읽는다.
+     */
+    @Query("""
+        SELECT new org.restapi.springrestapi.dto.post.PostDetailProjection(
+            p.id,
+            p.title,
+            p.content,
+            p.thumbnailImageUrl,
+            p.likeCount,
+            p.commentCount,
+            p.viewCount,
+            p.createdAt,
+            p.updatedAt,
+            a.id,
+            a.nickname,
+            a.profileImageUrl,
+            a.profileUpdatedAt,
+            CASE WHEN pl.id IS NOT NULL THEN true ELSE false END
+        )
+        FROM Post p
+        JOIN p.author a
+        LEFT JOIN PostLike pl ON pl.post = p AND pl.user.id = :userId
+        WHERE p.id = :id
+    """)
+    Optional<PostDetailProjection> findDetailById(@Param("id") Long id, @Param("userId") Long userId);
+
+    // 상세 조회 응답의 ETag 용. 본문 등 큰 컬럼은 읽지 않는다.
+    @Query("""
+        SELECT new org.restapi.springrestapi.dto.post.PostVersion(
+            p.updatedAt,
+            p.likeCount,
+            p.commentCount,
+            a.profileUpdatedAt,
+            CASE WHEN pl.id IS NOT NULL THEN true ELSE false END
+        )
+        FROM Post p
+        JOIN p.author a
+        LEFT JOIN PostLike pl ON pl.post = p AND pl.user.id = :userId
+        WHERE p.id = :id
+    """)
+    Optional<PostVersion> findVersionById(@Param("id") Long id, @Param("userId") Long userId);
 
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("update Post p set p.viewCount = p.viewCount + 1 where p.id = :id")
@@ -53,6 +130,19 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("update Post p set p.likeCount = p.likeCount - 1 where p.id = :id")
     void decreaseLikeCount(@Param("id") Long id);
 
+    // 좋아요 토글 전 상태(요청자의 좋아요 여부, 탈퇴하지 않은 사용자인지, 좋아요 수)를 한 번에 조회한다. 게시글이 없으면 빈 결과.
+    @Query("""
+        SELECT new org.restapi.springrestapi.dto.post.PostLikeState(
+            CASE WHEN pl.id IS NOT NULL THEN true ELSE false END,
+            CASE WHEN EXISTS (SELECT u.id FROM User u WHERE u.id = :userId) THEN true ELSE false END,
+            p.likeCount
+        )
+        FROM Post p
+        LEFT JOIN PostLike pl ON pl.post = p AND pl.user.id = :userId
+        WHERE p.id = :postId
+    """)
+    Optional<PostLikeState> findLikeState(@Param("postId") Long postId, @Param("userId") Long userId);
+
     @Query("select p.likeCount from Post p where p.id = :id")
     Optional<Integer> findLikeCountById(@Param("id") Long id);
 
@@ -0,0 +1,10 @@
+package org.restapi.springrestapi.repository;
+
+import java.util.Map;
+
+public interface PostRepositoryCustom {
+    // 게시글별 증가분(음수 가능)을 UPDATE ... CASE 로 묶어서 반영한다.
+    int addViewCounts(Map<Long, Integer> deltas);
+
+    int addLikeCounts(Map<Long, Integer> deltas);
+}
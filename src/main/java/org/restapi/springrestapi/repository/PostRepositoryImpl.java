@@ -0,0 +1,64 @@
+package org.restapi.springrestapi.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+public class PostRepositoryImpl implements PostRepositoryCustom {
+    // 한 UPDATE 문에 담을 게시글 수.
+    static final int BATCH_SIZE = 100;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    @Transactional
+    public int addViewCounts(Map<Long, Integer> deltas) {
+        return addCounts("viewCount", deltas);
+    }
+
+    @Override
+    @Transactional
+    public int addLikeCounts(Map<Long, Integer> deltas) {
+        return addCounts("likeCount", deltas);
+    }
+
+    private int addCounts(String field, Map<Long, Integer> deltas) {
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(deltas.entrySet());
+        int updated = 0;
+        for (int from = 0; from < entries.size(); from += BATCH_SIZE) {
+            updated += updateBatch(field, entries.subList(from, Math.min(from + BATCH_SIZE, entries.size())));
+        }
+        return updated;
+    }
+
+    /*
+        UPDATE Post p
+        SET p.{field} = p.{field} + CASE p.id WHEN :id0 THEN 3 WHEN :id1 THEN 1 ... ELSE 0 END
+        WHERE p.id IN :ids
+        증가분은 서버에서 계산한 정수라 리터럴로 넣는다. (THEN 절 파라미터는 DB에 따라 타입 추론이 되지 않는다)
+     */
+    private int updateBatch(String field, List<Map.Entry<Long, Integer>> batch) {
+        StringBuilder jpql = new StringBuilder("UPDATE Post p SET p.")
+                .append(field).append(" = p.").append(field).append(" + CASE p.id");
+        for (int i = 0; i < batch.size(); i++) {
+            jpql.append(" WHEN :id").append(i).append(" THEN ").append(batch.get(i).getValue().intValue());
+        }
+        jpql.append(" ELSE 0 END WHERE p.id IN :ids");
+
+        Query query = em.createQuery(jpql.toString());
+        List<Long> ids = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            Map.Entry<Long, Integer> entry = batch.get(i);
+            query.setParameter("id" + i, entry.getKey());
+            ids.add(entry.getKey());
+        }
+        return query.setParameter("ids", ids).executeUpdate();
+    }
+}
@@ -0,0 +1,22 @@
+package org.restapi.springrestapi.repository;
+
+import org.restapi.springrestapi.model.StoredImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface StoredImageRepository extends JpaRepository<StoredImage, Long> {
+    boolean existsBySha256(String sha256);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE StoredImage s SET s.refCount = s.refCount + 1 WHERE s.path = :path")
+    int increaseRefCount(@Param("path") String path);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE StoredImage s SET s.refCount = s.refCount - 1 WHERE s.path = :path AND s.refCount > 0")
+    int decreaseRefCount(@Param("path") String path);
+}
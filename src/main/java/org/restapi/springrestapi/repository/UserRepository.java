@@ -1,8 +1,13 @@
 package org.restapi.springrestapi.repository;
 
+import org.restapi.springrestapi.dto.user.UserVersion;
 import org.restapi.springrestapi.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 
@@ -10,4 +15,21 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
     boolean existsByNickname(String nickname);
+
+    @Query("SELECT new org.restapi.springrestapi.dto.user.UserVersion(u.id, u.profileUpdatedAt) FROM User u WHERE u.id = :id")
+    Optional<UserVersion> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT u.nickname FROM User u")
+    List<String> findAllNicknames();
+
+    // @SQLRestriction(deleted_at IS NULL) 을 거치지 않도록 native 로 조회한다.
+    @Query(value = "SELECT id FROM users WHERE deleted_at IS NOT NULL", nativeQuery = true)
+    List<Long> findDeletedIds();
+
+    @Query(value = "SELECT COALESCE(MAX(id), 0) FROM users", nativeQuery = true)
+    Long findMaxId();
+
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
 }
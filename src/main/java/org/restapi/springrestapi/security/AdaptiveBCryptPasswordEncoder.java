@@ -0,0 +1,65 @@
+package org.restapi.springrestapi.security;
+
+import java.time.Duration;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import lombok.Getter;
+
+/*
+    목표 strength 로 해싱하고, 저장된 해시의 strength 가 목표보다 낮을 때만 재해싱 대상으로 본다.
+    더 느린 서버에서 측정해 목표가 내려가도, 이미 더 강하게 저장된 해시를 약하게 바꾸지 않는다.
+    로그인 성공 시 DaoAuthenticationProvider 가 upgradeEncoding 을 확인해 UserDetailsPasswordService 로 교체한다.
+ */
+@Getter
+public class AdaptiveBCryptPasswordEncoder extends BCryptPasswordEncoder {
+    private static final String CALIBRATION_PASSWORD = "calibration-Password1!";
+    private static final int SAMPLES = 3;
+
+    private final int strength;
+
+    public AdaptiveBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    /*
+    minStrength 로 실제 해싱 시간을 재고, strength 가 1 오를 때마다 비용이 2배가 되는 점을 이용해
+    latencyBudget 안에 들어오는 가장 높은 strength 를 고른다.
+     */
+    public static AdaptiveBCryptPasswordEncoder calibrated(Duration latencyBudget, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        probe.encode(CALIBRATION_PASSWORD); // JIT 워밍업
+
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            probe.encode(CALIBRATION_PASSWORD);
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        return new AdaptiveBCryptPasswordEncoder(strengthFor(latencyBudget.toNanos(), fastest, minStrength, maxStrength));
+    }
+
+    static int strengthFor(long budgetNanos, long nanosAtMinStrength, int minStrength, int maxStrength) {
+        int strength = minStrength;
+        long estimated = nanosAtMinStrength;
+        while (strength < maxStrength && estimated * 2 <= budgetNanos) {
+            strength++;
+            estimated *= 2;
+        }
+        return strength;
+    }
+
+    // $2a$10$... 형식에서 strength 를 읽는다. 형식이 다르면 재해싱하지 않는다.
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(6) != '$') {
+            return false;
+        }
+        try {
+            return Integer.parseInt(encodedPassword, 4, 6, 10) < strength;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package org.restapi.springrestapi.security;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.restapi.springrestapi.exception.AppException;
+import org.restapi.springrestapi.exception.code.CommonErrorCode;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/*
+    BCrypt 해싱을 전용 스레드 풀에서 실행하는 PasswordEncoder.
+    - 로그인이 몰려도 해싱에 쓰이는 CPU 는 threads 개로 제한되어, 톰캣 스레드의 다른 요청(피드 조회 등)이 밀리지 않는다.
+    - 대기열(queueCapacity)이 가득 차거나 timeout 안에 끝나지 않으면 503(SERVICE_UNAVAILABLE)으로 바로 실패한다.
+    - upgradeEncoding 은 해싱이 아니므로 그대로 위임한다.
+
+    timeout 은 요청을 돌려보낼 뿐 해싱을 멈추지 못한다.
+    BCrypt 는 인터럽트를 확인하지 않으므로, 이미 시작된 해싱은 응답이 503 으로 나간 뒤에도 끝까지 실행되며 스레드를 차지한다.
+    대기열에서 아직 시작되지 않은 작업만 꺼내서 버릴 수 있다.
+    그래서 timeout 은 대기열 끝에 들어온 요청도 끝날 수 있도록 (queueCapacity / threads + 1) x 해싱 1회 시간 이상으로 잡는다.
+    더 짧으면 과부하 때 503 으로 끝난 요청의 해싱이 계속 스레드를 차지해 뒤따르는 요청까지 연달아 시간 초과된다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, MeterBinder, AutoCloseable {
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutNanos;
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder queueNanos = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration timeout) {
+        this.delegate = delegate;
+        this.timeoutNanos = timeout.toNanos();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("security.password.hashing.queue", this, BoundedPasswordEncoder::getQueueDepth)
+                .description("해싱 대기열에 쌓인 요청 수")
+                .register(registry);
+        Gauge.builder("security.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(registry);
+        FunctionCounter.builder("security.password.hashing.rejected", rejected, LongAdder::sum)
+                .tag("cause", "saturated")
+                .description("대기열이 가득 차 503 으로 거절한 요청 수")
+                .register(registry);
+        FunctionCounter.builder("security.password.hashing.rejected", timedOut, LongAdder::sum)
+                .tag("cause", "timeout")
+                .register(registry);
+        FunctionTimer.builder("security.password.hashing", this,
+                        encoder -> encoder.completed.sum(), encoder -> encoder.queueNanos.sum(), TimeUnit.NANOSECONDS)
+                .tag("phase", "queue")
+                .description("대기열에서 기다린 시간")
+                .register(registry);
+        FunctionTimer.builder("security.password.hashing", this,
+                        encoder -> encoder.completed.sum(), encoder -> encoder.hashNanos.sum(), TimeUnit.NANOSECONDS)
+                .tag("phase", "hash")
+                .description("해싱에 걸린 시간")
+                .register(registry);
+    }
+
+    private <T> T submit(Callable<T> task) {
+        final long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    long finishedAt = System.nanoTime();
+                    queueNanos.add(startedAt - submittedAt);
+                    hashNanos.add(finishedAt - startedAt);
+                    completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new AppException(CommonErrorCode.SERVICE_UNAVAILABLE);
+        }
+
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            discard(future);
+            timedOut.increment();
+            throw new AppException(CommonErrorCode.SERVICE_UNAVAILABLE);
+        } catch (InterruptedException e) {
+            discard(future);
+            Thread.currentThread().interrupt();
+            throw new AppException(CommonErrorCode.SERVICE_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /*
+        아직 대기열에 있는 작업은 꺼내서 자리를 비운다.
+        이미 실행 중인 작업은 인터럽트해도 BCrypt 가 멈추지 않으므로 결과만 버리고 끝나도록 둔다.
+     */
+    private void discard(Future<?> future) {
+        future.cancel(false);
+        executor.remove((Runnable) future);
+    }
+}
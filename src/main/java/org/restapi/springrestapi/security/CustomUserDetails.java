@@ -8,12 +8,44 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/*
+    인증된 사용자 정보.
+    - 로그인(이메일/비밀번호)에서는 조회한 User 를 그대로 감싼다.
+    - JWT 인증에서는 토큰의 식별자만 가지고 있다가, user() 를 호출할 때 한 번만 User 를 불러온다.
+      대부분의 요청은 getId() 만 쓰므로 사용자 조회 없이 끝난다.
+ */
+public final class CustomUserDetails implements UserDetails {
+    private final Long id;
+    private final @Nullable Function<Long, User> loader;
+    private @Nullable User user; // 요청 스레드 안에서만 사용하므로 동기화하지 않는다.
+
+    public CustomUserDetails(User user) {
+        this.id = user.getId();
+        this.user = user;
+        this.loader = null;
+    }
+
+    private CustomUserDetails(Long id, Function<Long, User> loader) {
+        this.id = id;
+        this.loader = loader;
+    }
+
+    public static CustomUserDetails fromClaims(Long userId, Function<Long, User> loader) {
+        return new CustomUserDetails(Objects.requireNonNull(userId), Objects.requireNonNull(loader));
+    }
 
-public record CustomUserDetails(
-        User user
-) implements UserDetails {
     public Long getId() {
-        return this.user.getId();
+        return this.id;
+    }
+
+    public User user() {
+        if (user == null) {
+            user = loader.apply(id);
+        }
+        return user;
     }
 
     @Override
@@ -21,13 +53,30 @@ public record CustomUserDetails(
         return List.of();
     }
 
+    // 토큰 인증에는 비밀번호가 필요 없으므로 조회하지 않는다.
     @Override
     public @Nullable String getPassword() {
-        return user.getPassword();
+        return loader == null ? user.getPassword() : null;
     }
 
+    // 토큰 인증에서는 이메일 대신 사용자 식별자를 username 으로 쓴다.
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return loader == null ? user.getEmail() : String.valueOf(id);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof CustomUserDetails other && Objects.equals(id, other.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+
+    @Override
+    public String toString() {
+        return "CustomUserDetails[id=" + id + "]";
     }
-}
\ No newline at end of file
+}
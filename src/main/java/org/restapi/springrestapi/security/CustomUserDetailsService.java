@@ -3,15 +3,20 @@ package org.restapi.springrestapi.security;
 import lombok.RequiredArgsConstructor;
 import org.restapi.springrestapi.finder.UserFinder;
 import org.restapi.springrestapi.model.User;
+import org.restapi.springrestapi.repository.UserRepository;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     private final UserFinder userFinder;
+    private final UserRepository userRepository;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
@@ -19,4 +24,19 @@ public class CustomUserDetailsService implements UserDetailsService {
 
         return new CustomUserDetails(user);
     }
+
+    /*
+    로그인 성공 후 저장된 해시의 strength 가 목표와 다르면 DaoAuthenticationProvider 가 새 해시로 호출한다.
+    로그인은 읽기 전용 트랜잭션이므로 별도 트랜잭션에서 비밀번호 컬럼만 갱신한다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        CustomUserDetails details = (CustomUserDetails) user;
+        userRepository.updatePassword(details.getId(), newPassword);
+
+        return new CustomUserDetails(details.user().toBuilder()
+                .password(newPassword)
+                .build());
+    }
 }
@@ -0,0 +1,115 @@
+package org.restapi.springrestapi.security;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.restapi.springrestapi.repository.UserRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+    탈퇴한 사용자 id 집합. 토큰 재발급과 JwtFilter 가 users 조회 없이 탈퇴 여부를 확인하는 데 쓴다.
+    - 시작 시와 주기적으로 deleted_at 이 있는 id 를 다시 읽어 다른 인스턴스의 탈퇴도 반영한다.
+    - 같이 읽어 둔 최대 id(watermark) 이하이면서 집합에 없는 id 는 존재하는 사용자로 본다.
+      watermark 는 동기화에서 실제로 읽은 최대 id 로만 올린다. 그 사이의 id 는 탈퇴 여부를 읽은 적이 없기 때문이다.
+    - watermark 보다 큰 id(마지막 동기화 이후 가입)는 이 인스턴스에서 가입했거나 DB 로 확인한 id 만 따로 기억하고,
+      나머지는 호출하는 쪽에서 DB 로 확인한다. 따로 기억한 id 는 다음 동기화에서 watermark 에 포함되면 지운다.
+    - 탈퇴는 되돌리지 않으므로 집합에서 지우지 않는다. (탈퇴 트랜잭션이 롤백된 경우만 제외)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevokedUserRegistry implements MeterBinder {
+    private final UserRepository userRepository;
+
+    private final Set<Long> revoked = ConcurrentHashMap.newKeySet();
+    private final AtomicLong knownMaxUserId = new AtomicLong();
+    private final Set<Long> activeAboveWatermark = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder unknownLookups = new LongAdder();
+
+    @PostConstruct
+    void init() {
+        resync();
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.security.revoked-users.resync-interval-ms:60000}",
+            fixedDelayString = "${app.security.revoked-users.resync-interval-ms:60000}"
+    )
+    public void resync() {
+        try {
+            // 최대 id 를 먼저 읽어야, 그 사이에 가입 후 탈퇴한 사용자가 '존재'로 분류되지 않는다.
+            long maxId = userRepository.findMaxId();
+            revoked.addAll(userRepository.findDeletedIds());
+            knownMaxUserId.accumulateAndGet(maxId, Math::max);
+            activeAboveWatermark.removeIf(id -> id <= maxId);
+        } catch (RuntimeException e) {
+            // 동기화에 실패해도 기존 정보로 동작하고, 모르는 id 는 DB 로 확인된다.
+            log.warn("Failed to resync revoked users", e);
+        }
+    }
+
+    public boolean isRevoked(Long userId) {
+        return revoked.contains(userId);
+    }
+
+    // true 이면 users 조회 없이 존재하는 사용자로 판단해도 된다.
+    public boolean isKnownActive(Long userId) {
+        if (revoked.contains(userId)) {
+            return false;
+        }
+        if (userId <= knownMaxUserId.get() || activeAboveWatermark.contains(userId)) {
+            return true;
+        }
+        unknownLookups.increment();
+        return false;
+    }
+
+    // DB 로 존재를 확인했거나 새로 가입한 사용자. 이 id 만 기억하고 watermark 는 올리지 않는다.
+    public void markActive(Long userId) {
+        if (userId > knownMaxUserId.get()) {
+            activeAboveWatermark.add(userId);
+        }
+    }
+
+    public void revoke(Long userId) {
+        revoked.add(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        revoked.remove(userId);
+                    }
+                }
+            });
+        }
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("security.revoked.users.size", this, RevokedUserRegistry::size)
+                .description("메모리에 유지 중인 탈퇴 사용자 수")
+                .register(registry);
+        FunctionCounter.builder("security.revoked.users.unknown", unknownLookups, LongAdder::sum)
+                .description("watermark 이후 가입자라 DB 로 확인한 횟수")
+                .register(registry);
+    }
+}
@@ -1,15 +1,48 @@
 package org.restapi.springrestapi.security.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.restapi.springrestapi.security.AdaptiveBCryptPasswordEncoder;
+import org.restapi.springrestapi.security.BoundedPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+
+@Slf4j
 @Configuration
 public class PasswordEncoderConfig {
 
+    /*
+    strength-mode
+    - fixed: strength 값을 그대로 사용
+    - calibrated: 시작 시 이 서버에서 BCrypt 를 측정해 latency-budget 안에 드는 가장 높은 strength 를 사용
+    저장된 해시의 strength 가 더 낮으면 다음 로그인 성공 시 새 strength 로 다시 저장된다. 더 높은 해시는 그대로 둔다.
+
+    반환 타입을 구체 타입으로 두어 MeterBinder 로도 등록되게 한다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${app.security.password-hashing.strength-mode:fixed}") String strengthMode,
+            @Value("${app.security.password-hashing.strength:10}") int strength,
+            @Value("${app.security.password-hashing.latency-budget:250ms}") Duration latencyBudget,
+            @Value("${app.security.password-hashing.min-strength:10}") int minStrength,
+            @Value("${app.security.password-hashing.max-strength:14}") int maxStrength,
+            @Value("${app.security.password-hashing.threads:4}") int threads,
+            @Value("${app.security.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${app.security.password-hashing.timeout:5s}") Duration timeout
+    ) {
+        AdaptiveBCryptPasswordEncoder bcrypt = "calibrated".equalsIgnoreCase(strengthMode)
+                ? AdaptiveBCryptPasswordEncoder.calibrated(latencyBudget, minStrength, maxStrength)
+                : new AdaptiveBCryptPasswordEncoder(strength);
+        log.info("BCrypt strength {} ({})", bcrypt.getStrength(), strengthMode);
+
+        // 시간 초과된 해싱도 끝까지 실행되므로, 대기열 끝의 요청이 latency-budget 기준으로 끝날 수 있는 시간을 확보한다.
+        Duration worstQueueWait = latencyBudget.multipliedBy(queueCapacity / threads + 1L);
+        if (timeout.compareTo(worstQueueWait) < 0) {
+            log.warn("Password hashing timeout {} is shorter than the worst queue wait {} ({} threads, queue {}, {} per hash)",
+                    timeout, worstQueueWait, threads, queueCapacity, latencyBudget);
+        }
+        return new BoundedPasswordEncoder(bcrypt, threads, queueCapacity, timeout);
     }
-}
\ No newline at end of file
+}
@@ -6,8 +6,11 @@ import lombok.RequiredArgsConstructor;
 import org.restapi.springrestapi.security.handler.RestAccessDeniedHandler;
 import org.restapi.springrestapi.security.handler.RestAuthenticationEntryPoint;
 import org.restapi.springrestapi.security.jwt.JwtFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -29,10 +32,41 @@ import java.util.List;
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
+    // 인증 없이 공개되는 정적 리소스, 문서, 헬스 체크 (GET)
+    private static final String[] PUBLIC_RESOURCES = {
+            "/upload/**",
+            "/hc",
+            "/swagger-ui.html",
+            "/swagger-ui/**",
+            "/v3/api-docs/**"
+    };
+
     private final JwtFilter jwtFilter;
     private final ObjectMapper objectMapper;
 
+    /*
+    공개 리소스 전용 체인. JWT 필터와 CSRF 쿠키 처리 없이 바로 통과시킨다.
+    나머지 요청(API)은 아래 filterChain 이 처리한다.
+     */
     @Bean
+    @Order(0)
+    @ConditionalOnProperty(name = "app.security.public-fast-path.enabled", havingValue = "true", matchIfMissing = true)
+    public SecurityFilterChain publicResourceFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatchers(matchers -> matchers.requestMatchers(HttpMethod.GET, PUBLIC_RESOURCES))
+                .cors(cors -> cors.configurationSource(corsConfigurationSource()))
+                .csrf(AbstractHttpConfigurer::disable)
+                .formLogin(AbstractHttpConfigurer::disable)
+                .httpBasic(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
+                .requestCache(AbstractHttpConfigurer::disable)
+                .sessionManagement(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll());
+        return http.build();
+    }
+
+    @Bean
+    @Order(1)
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
 
 		CsrfTokenRequestAttributeHandler requestHandler =
@@ -88,6 +122,14 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // JwtFilter 는 @Component 라 서블릿 필터로도 자동 등록된다. 보안 체인 안에서만 동작하도록 자동 등록을 끈다.
+    @Bean
+    public FilterRegistrationBean<JwtFilter> jwtFilterRegistration() {
+        FilterRegistrationBean<JwtFilter> registration = new FilterRegistrationBean<>(jwtFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 import org.restapi.springrestapi.exception.AppException;
 import org.restapi.springrestapi.exception.AuthException;
 import org.restapi.springrestapi.exception.code.AuthErrorCode;
+import org.restapi.springrestapi.security.RevokedUserRegistry;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.AuthenticationEntryPoint;
@@ -21,6 +22,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
     private final JwtProvider jwtProvider;
+    private final RevokedUserRegistry revokedUserRegistry;
     private final AuthenticationEntryPoint entryPoint;
 
     @Override
@@ -46,7 +48,7 @@ public class JwtFilter extends OncePerRequestFilter {
                 }
                 String refreshToken = refreshTokenOpt.get();
 
-                if (!jwtProvider.validateRefreshToken(refreshToken)) {
+                if (jwtProvider.verifyRefreshToken(refreshToken).isEmpty()) {
                     // refresh가 있는데 invalid → 재로그인 필요
                     throw new AuthException(AuthErrorCode.REFRESH_TOKEN_INVALID);
                 }
@@ -58,17 +60,18 @@ public class JwtFilter extends OncePerRequestFilter {
             Optional<String> accessTokenOpt = jwtProvider.resolveAccessToken(request);
 
             if (accessTokenOpt.isPresent()) {
-                String accessToken = accessTokenOpt.get();
-                if (jwtProvider.validateAccessToken(accessToken)) {
-                    SecurityContextHolder.getContext().setAuthentication(jwtProvider.getAuthentication(accessToken));
-                } else {
                 /*
                 엑세스 토큰이 존재 = 로그인한 사용자
                 그러나 토큰이 유효하지 않음 = 위조 되었거나 시간 만료
                 로그인 사용자에게 올바른 정보를 보여줄 수 없으니 예외를 발생시켜 리프레쉬를 유도해야 한다.
                  */
-                    throw new AuthException(AuthErrorCode.ACCESS_TOKEN_EXPIRED);
+                VerifiedToken accessToken = jwtProvider.verifyAccessToken(accessTokenOpt.get())
+                        .orElseThrow(() -> new AuthException(AuthErrorCode.ACCESS_TOKEN_EXPIRED));
+                // 인증 시 사용자를 조회하지 않으므로, 탈퇴한 사용자의 토큰은 여기서 막는다.
+                if (revokedUserRegistry.isRevoked(accessToken.userId())) {
+                    throw new AuthException(AuthErrorCode.UNAUTHORIZED);
                 }
+                SecurityContextHolder.getContext().setAuthentication(jwtProvider.getAuthentication(accessToken));
             }
 
             filterChain.doFilter(request, response);
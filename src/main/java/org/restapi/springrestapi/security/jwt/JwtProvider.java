@@ -2,6 +2,7 @@ package org.restapi.springrestapi.security.jwt;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -12,9 +13,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.restapi.springrestapi.exception.AppException;
 import org.restapi.springrestapi.exception.code.AuthErrorCode;
 import org.restapi.springrestapi.finder.UserFinder;
-import org.restapi.springrestapi.model.User;
 import org.restapi.springrestapi.security.CustomUserDetails;
-import org.restapi.springrestapi.exception.AuthException;
 import org.springframework.http.ResponseCookie;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -51,18 +50,25 @@ public class JwtProvider {
      */
     private final UserFinder userFinder;
     private final JwtProperties props;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     private SecretKey accessKey;
     private SecretKey refreshKey;
 
+    // JwtParser 는 불변이고 thread-safe 하므로 한 번만 만들어 재사용한다.
+    private JwtParser accessParser;
+    private JwtParser refreshParser;
+
     @PostConstruct
-    void init() {
+    public void init() {
         this.accessKey = Keys.hmacShaKeyFor(
                 props.access().secret().getBytes(StandardCharsets.UTF_8)
         );
         this.refreshKey = Keys.hmacShaKeyFor(
                 props.refresh().secret().getBytes(StandardCharsets.UTF_8)
         );
+        this.accessParser = Jwts.parser().verifyWith(accessKey).build();
+        this.refreshParser = Jwts.parser().verifyWith(refreshKey).build();
     }
 
     /* =========================
@@ -105,42 +111,54 @@ public class JwtProvider {
        Token 파싱/검증
        ========================= */
 
+    // Access 토큰은 요청마다 반복되므로 검증 결과를 캐시에서 먼저 찾는다.
+    public Optional<VerifiedToken> verifyAccessToken(String token) {
+        return verifiedTokenCache.getOrVerify(token, t -> verify(t, accessParser, TYPE_ACCESS));
+    }
+
+    public Optional<VerifiedToken> verifyRefreshToken(String token) {
+        return verify(token, refreshParser, TYPE_REFRESH);
+    }
+
     public boolean validateAccessToken(String token) {
-        return validate(token, accessKey, TYPE_ACCESS);
+        return verifyAccessToken(token).isPresent();
     }
 
     public boolean validateRefreshToken(String token) {
-        return validate(token, refreshKey, TYPE_REFRESH);
+        return verifyRefreshToken(token).isPresent();
     }
 
-    private boolean validate(String token, SecretKey key, String expectedTyp) {
+    // 서명 검증과 JSON 디코딩은 토큰당 한 번만 수행하고, 필요한 값은 VerifiedToken 으로 돌려준다.
+    private Optional<VerifiedToken> verify(String token, JwtParser parser, String expectedTyp) {
         try {
-            Claims claims = parse(token, key);
+            Claims claims = parser.parseSignedClaims(token).getPayload();
             String actualTyp = claims.get(CLAIM_TOKEN_TYPE, String.class);
-            return expectedTyp.equals(actualTyp);
+            if (!expectedTyp.equals(actualTyp)) {
+                return Optional.empty();
+            }
+            return Optional.of(new VerifiedToken(
+                    Long.valueOf(claims.getSubject()),
+                    actualTyp,
+                    claims.getExpiration().toInstant()
+            ));
         } catch (JwtException | IllegalArgumentException e) {
             /*
             구체적인 실패 사유(서명 불일치, 토큰 형식, 만료 등)를 반환하면, 공격자도 알게된다.
             외부 응답은 단순하게, 내부 로그는 남기는 방향으로 가는게 좋아보인다.
              */
             log.warn("토큰 유효성 검증 실패: " + e.getMessage());
-            return false;
+            return Optional.empty();
         }
     }
 
 
-    public Authentication getAuthentication(String accessToken) {
-        Long userId = getUserIdFromAccess(accessToken);
-        try {
-            User user = userFinder.findByIdOrAuthThrow(userId);
-            CustomUserDetails customUserDetails = new CustomUserDetails(user);
-            return new UsernamePasswordAuthenticationToken(customUserDetails, null, Collections.emptyList());
-        } catch (AppException ex) {
-            if (ex.getErrorCode() instanceof AuthErrorCode) {
-                throw new AuthException(ex.getErrorCode());
-            }
-            throw ex;
-        }
+    /*
+    토큰의 사용자 식별자만으로 인증 정보를 만든다. (DB 조회 없음)
+    User 가 실제로 필요한 경우에만 CustomUserDetails.user() 에서 불러온다.
+     */
+    public Authentication getAuthentication(VerifiedToken accessToken) {
+        CustomUserDetails customUserDetails = CustomUserDetails.fromClaims(accessToken.userId(), userFinder::findByIdOrAuthThrow);
+        return new UsernamePasswordAuthenticationToken(customUserDetails, null, Collections.emptyList());
     }
 
     /*
@@ -151,19 +169,11 @@ public class JwtProvider {
      */
 
     public Long getUserIdFromAccess(String token) {
-        return Long.valueOf(parse(token, accessKey).getSubject());
+        return Long.valueOf(accessParser.parseSignedClaims(token).getPayload().getSubject());
     }
 
     public Long getUserIdFromRefresh(String token) {
-        return Long.valueOf(parse(token, refreshKey).getSubject());
-    }
-
-    private Claims parse(String token, SecretKey key) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return Long.valueOf(refreshParser.parseSignedClaims(token).getPayload().getSubject());
     }
 
     /* =========================
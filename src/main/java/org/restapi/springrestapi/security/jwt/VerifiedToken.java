@@ -0,0 +1,14 @@
+package org.restapi.springrestapi.security.jwt;
+
+import java.time.Instant;
+
+/*
+    서명, 만료, 토큰 타입 검증을 통과한 토큰에서 꺼낸 값.
+    필터와 서비스는 이 값을 넘겨받아 같은 토큰을 다시 파싱하지 않는다.
+ */
+public record VerifiedToken(
+        Long userId,
+        String type,
+        Instant expiresAt
+) {
+}
@@ -0,0 +1,149 @@
+package org.restapi.springrestapi.security.jwt;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/*
+    같은 Access 토큰이 ttl 동안 반복해서 들어오므로, 검증에 성공한 결과를 토큰 해시로 기억해 HMAC 검증과 JSON 디코딩을 건너뛴다.
+    - 고정 크기 배열에 해시로 자리를 정하는 direct-mapped 구조라 메모리는 maxSize 를 넘지 않고, 충돌하면 나중 값이 덮어쓴다.
+    - 해시가 같아도 원본 토큰 전체가 일치할 때만 사용한다. (비교는 상수 시간)
+    - 토큰의 exp 가 지나면 사용하지 않고 비운다. 검증에 실패한 토큰은 저장하지 않는다.
+    - maxSize 가 0 이면 캐시 없이 매번 검증한다.
+ */
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+    private final AtomicReferenceArray<Entry> slots;
+    private final int mask;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder verifications = new LongAdder();
+    private final LongAdder verificationNanos = new LongAdder();
+
+    public VerifiedTokenCache(@Value("${app.security.verified-token-cache.max-size:4096}") int maxSize) {
+        if (maxSize <= 0) {
+            this.slots = null;
+            this.mask = 0;
+        } else {
+            int capacity = Integer.highestOneBit(maxSize);
+            this.slots = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+        }
+    }
+
+    public Optional<VerifiedToken> getOrVerify(String token, Function<String, Optional<VerifiedToken>> verifier) {
+        return getOrVerify(token, verifier, System.currentTimeMillis());
+    }
+
+    Optional<VerifiedToken> getOrVerify(String token, Function<String, Optional<VerifiedToken>> verifier, long nowMillis) {
+        if (slots == null) {
+            return timedVerify(token, verifier);
+        }
+
+        final long hash = hash(token);
+        final int index = (int) hash & mask;
+        Entry entry = slots.get(index);
+        if (entry != null && entry.hash() == hash && matches(entry.token(), token)) {
+            if (nowMillis < entry.expiresAtMillis()) {
+                hits.increment();
+                return Optional.of(entry.verified());
+            }
+            if (slots.compareAndSet(index, entry, null)) {
+                expirations.increment();
+            }
+        }
+        misses.increment();
+
+        Optional<VerifiedToken> verified = timedVerify(token, verifier);
+        verified.ifPresent(v -> slots.set(index, new Entry(hash, token, v, v.expiresAt().toEpochMilli())));
+        return verified;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    // 실제 검증 1회의 평균 비용 x 건너뛴 횟수
+    public double getSavedNanos() {
+        long count = verifications.sum();
+        return count == 0 ? 0 : hits.sum() * (verificationNanos.sum() / (double) count);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("security.jwt.verify.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("서명 검증을 건너뛴 Access 토큰 요청 수")
+                .register(registry);
+        FunctionCounter.builder("security.jwt.verify.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("security.jwt.verify.cache.removals", expirations, LongAdder::sum)
+                .tag("cause", "expired")
+                .register(registry);
+        FunctionTimer.builder("security.jwt.verify", this,
+                        cache -> cache.verifications.sum(),
+                        cache -> cache.verificationNanos.sum(),
+                        TimeUnit.NANOSECONDS)
+                .description("실제로 수행한 토큰 서명 검증 시간")
+                .register(registry);
+        FunctionCounter.builder("security.jwt.verify.cache.saved", this, cache -> cache.getSavedNanos() / 1_000_000_000.0)
+                .baseUnit("seconds")
+                .description("캐시 적중으로 절약한 검증 CPU 시간 추정치")
+                .register(registry);
+    }
+
+    private Optional<VerifiedToken> timedVerify(String token, Function<String, Optional<VerifiedToken>> verifier) {
+        long start = System.nanoTime();
+        try {
+            return verifier.apply(token);
+        } finally {
+            verifications.increment();
+            verificationNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    // 64bit FNV-1a, 자리 선택에 하위 비트를 쓰므로 마지막에 섞어준다.
+    static long hash(String token) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < token.length(); i++) {
+            h ^= token.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= (h >>> 33);
+        h *= 0xff51afd7ed558ccdL;
+        h ^= (h >>> 33);
+        return h;
+    }
+
+    // 적중할 때마다 바이트 배열을 만들지 않도록 문자 단위로 비교한다. 길이가 같으면 다른 위치와 상관없이 끝까지 본다.
+    static boolean matches(String cached, String token) {
+        if (cached.length() != token.length()) {
+            return false;
+        }
+        int diff = 0;
+        for (int i = 0; i < token.length(); i++) {
+            diff |= cached.charAt(i) ^ token.charAt(i);
+        }
+        return diff == 0;
+    }
+
+    private record Entry(long hash, String token, VerifiedToken verified, long expiresAtMillis) {
+    }
+}
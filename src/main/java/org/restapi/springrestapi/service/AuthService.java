@@ -1,16 +1,20 @@
 package org.restapi.springrestapi.service;
 
 import jakarta.servlet.http.HttpServletRequest;
+import org.restapi.springrestapi.common.util.FileStorageService;
 import org.restapi.springrestapi.dto.auth.*;
 import org.restapi.springrestapi.dto.user.EncodedPassword;
 import org.restapi.springrestapi.exception.AppException;
 import org.restapi.springrestapi.exception.code.AuthErrorCode;
+import org.restapi.springrestapi.exception.code.UserErrorCode;
 import org.restapi.springrestapi.finder.UserFinder;
 import org.restapi.springrestapi.model.User;
 
 import org.restapi.springrestapi.repository.UserRepository;
 import org.restapi.springrestapi.security.CustomUserDetails;
+import org.restapi.springrestapi.security.RevokedUserRegistry;
 import org.restapi.springrestapi.security.jwt.JwtProvider;
+import org.restapi.springrestapi.validator.TakenUserNames;
 import org.restapi.springrestapi.validator.UserValidator;
 import org.springframework.http.ResponseCookie;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -34,6 +38,9 @@ public class AuthService {
     private final UserValidator userValidator;
     private final UserRepository userRepository;
     private final UserFinder userFinder;
+    private final RevokedUserRegistry revokedUserRegistry;
+    private final TakenUserNames takenUserNames;
+    private final FileStorageService fileStorageService;
 
     @Transactional(readOnly = true)
 	public LoginResult login(LoginRequest loginRequest) {
@@ -62,6 +69,9 @@ public class AuthService {
         User user = User.from(signUpRequest, new EncodedPassword(passwordEncoder.encode(signUpRequest.password())));
 
         User saved = userRepository.save(user);
+        revokedUserRegistry.markActive(saved.getId());
+        fileStorageService.retain(saved.getProfileImageUrl());
+        takenUserNames.putNickname(saved.getNickname());
 
         String accessToken = jwtProvider.createAccessToken(saved.getId());
         String refresh = jwtProvider.createRefreshToken(saved.getId());
@@ -77,7 +87,14 @@ public class AuthService {
             .orElseThrow(() -> new AppException(AuthErrorCode.REFRESH_COOKIE_MISSING));
         Long userId = jwtProvider.getUserIdFromRefresh(refreshToken);
 
-        userFinder.existsByIdOrThrow(userId);
+        // 탈퇴 여부는 메모리에서 확인하고, 마지막 동기화 이후 가입한 사용자만 DB 로 확인한다.
+        if (revokedUserRegistry.isRevoked(userId)) {
+            throw new AppException(UserErrorCode.USER_NOT_FOUND);
+        }
+        if (!revokedUserRegistry.isKnownActive(userId)) {
+            userFinder.existsByIdOrThrow(userId);
+            revokedUserRegistry.markActive(userId);
+        }
 
         String newAccess = jwtProvider.createAccessToken(userId);
 
@@ -2,7 +2,9 @@ package org.restapi.springrestapi.service;
 
 import java.util.List;
 
+import org.restapi.springrestapi.common.util.ETags;
 import org.restapi.springrestapi.dto.comment.CommentListResult;
+import org.restapi.springrestapi.dto.comment.CommentListVersion;
 import org.restapi.springrestapi.dto.comment.CommentResult;
 import org.restapi.springrestapi.dto.comment.PatchCommentRequest;
 import org.restapi.springrestapi.dto.comment.CreateCommentRequest;
@@ -14,6 +16,7 @@ import org.restapi.springrestapi.finder.UserFinder;
 import org.restapi.springrestapi.model.Comment;
 import org.restapi.springrestapi.repository.CommentRepository;
 import org.restapi.springrestapi.repository.PostRepository;
+import org.restapi.springrestapi.service.post.PostFeedCache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +32,7 @@ public class CommentService {
 	private final PostFinder postFinder;
 	private final UserFinder userFinder;
 	private final CommentFinder commentFinder;
+    private final PostFeedCache postFeedCache;
 
 	public CommentResult createComment(Long userId, CreateCommentRequest request, Long postId) {
 		postFinder.existsByIdOrThrow(postId);
@@ -39,6 +43,7 @@ public class CommentService {
 		);
 
         postRepository.increaseCommentCount(postId);
+        postFeedCache.changeCommentCount(postId, 1);
 
 		return CommentResult.from(commentRepository.save(comment));
 	}
@@ -57,6 +62,16 @@ public class CommentService {
 		return CommentListResult.from(commentResultsList, nextCursor);
 	}
 
+	// 페이지 단위가 아니라 게시글의 댓글 전체 집계로 만든다. 다른 페이지의 변경에도 바뀌지만 한 번의 집계로 끝난다.
+	@Transactional(readOnly = true)
+	public String getCommentListETag(Long postId, Long cursor, int limit) {
+		postFinder.existsByIdOrThrow(postId);
+
+		CommentListVersion version = commentFinder.findListVersion(postId);
+		return ETags.weak(postId, cursor, limit,
+			version.count(), version.maxId(), version.lastUpdatedAt(), version.lastProfileUpdatedAt());
+	}
+
     private int calcNextCursor(List<Comment> commentList) {
         long lastIdDesc = commentList.get(commentList.size() - 1).getId();
         return (int) Math.max(lastIdDesc, 0) + 1;
@@ -76,6 +91,7 @@ public class CommentService {
 		validatePermission(comment, userId, postId);
 
         postRepository.decreaseCommentCount(postId);
+        postFeedCache.changeCommentCount(postId, -1);
 		commentRepository.deleteById(id);
 	}
 
@@ -1,17 +1,25 @@
 package org.restapi.springrestapi.service;
 
+import org.restapi.springrestapi.common.util.ETags;
+import org.restapi.springrestapi.common.util.FileStorageService;
 import org.restapi.springrestapi.dto.user.ChangePasswordRequest;
-import org.restapi.springrestapi.dto.user.EncodedPassword;
+import org.restapi.springrestapi.dto.user.NicknameAvailabilityResult;
 import org.restapi.springrestapi.dto.user.PatchProfileRequest;
 import org.restapi.springrestapi.dto.user.UserProfileResult;
+import org.restapi.springrestapi.dto.user.UserVersion;
 import org.restapi.springrestapi.finder.UserFinder;
 import org.restapi.springrestapi.model.User;
 import org.restapi.springrestapi.repository.UserRepository;
+import org.restapi.springrestapi.security.RevokedUserRegistry;
+import org.restapi.springrestapi.service.post.PostFeedCache;
 import org.restapi.springrestapi.validator.AuthValidator;
+import org.restapi.springrestapi.validator.TakenUserNames;
 import org.restapi.springrestapi.validator.UserValidator;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Objects;
+
 import lombok.RequiredArgsConstructor;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,28 +32,59 @@ public class UserService {
 	private final PasswordEncoder passwordEncoder;
 	private final UserValidator userValidator;
     private final AuthValidator authValidator;
+    private final PostFeedCache postFeedCache;
+    private final RevokedUserRegistry revokedUserRegistry;
+    private final TakenUserNames takenUserNames;
+    private final FileStorageService fileStorageService;
 
 	public UserProfileResult getUserProfile(Long id) {
 		return UserProfileResult.from(userFinder.findByIdOrThrow(id));
 	}
 
+	@Transactional(readOnly = true)
+	public String getUserProfileETag(Long id) {
+		UserVersion version = userFinder.findVersionOrThrow(id);
+		return ETags.weak(version.id(), version.profileUpdatedAt());
+	}
+
+	@Transactional(readOnly = true)
+	public NicknameAvailabilityResult checkNicknameAvailability(String nickname) {
+		return new NicknameAvailabilityResult(!userValidator.isNicknameTaken(nickname));
+	}
+
 	public void updateProfile(Long id, PatchProfileRequest req) {
 		userValidator.validateDuplicateNickname(req.nickname());
 
 		User user = userFinder.findByIdOrThrow(id);
+		String previousImageUrl = user.getProfileImageUrl();
 		user.updateProfile(req);
+		if (!Objects.equals(previousImageUrl, user.getProfileImageUrl())) {
+			fileStorageService.retain(user.getProfileImageUrl());
+			fileStorageService.release(previousImageUrl);
+		}
 
 		userRepository.save(user);
+		takenUserNames.putNickname(user.getNickname());
+		// 목록 카드에 작성자 닉네임/프로필 이미지가 포함되어 있으므로 비운다.
+		postFeedCache.invalidate();
 	}
 
-	public void updatePassword(User user, ChangePasswordRequest req) {
+	/*
+		토큰 인증의 principal 은 사용자 식별자만 가지고 있으므로 DB 에서 다시 읽어 현재 비밀번호를 검증하고,
+		비밀번호 컬럼만 갱신한다.
+	 */
+	public void updatePassword(Long id, ChangePasswordRequest req) {
+		User user = userFinder.findByIdOrThrow(id);
         authValidator.validateNewPassword(req, user.getPassword());
-		user.updatePassword(new EncodedPassword(passwordEncoder.encode(req.password())));
 
-		userRepository.save(user);
+		userRepository.updatePassword(id, passwordEncoder.encode(req.password()));
 	}
 
 	public void deleteUser(Long id) {
-        userRepository.deleteById(id);
+		User user = userFinder.findByIdOrThrow(id);
+        userRepository.delete(user);
+        fileStorageService.release(user.getProfileImageUrl());
+        revokedUserRegistry.revoke(id);
+        postFeedCache.invalidate();
 	}
 }
@@ -2,27 +2,157 @@ package org.restapi.springrestapi.service.post;
 
 import jakarta.servlet.http.HttpServletRequest;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.time.Instant;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+    (게시글, 방문자) 조합의 최근 조회 여부를 기억하는 메모리 상한이 있는 저장소.
+    - 키는 문자열이 아닌 64bit fingerprint 이고, 박싱 없는 LongHashSet 에 보관한다.
+    - 만료는 hashed timing wheel 로 처리한다. 윈도우를 TICKS 칸으로 나누고 칸마다 셋을 하나씩 두어,
+      시간이 지나 재사용되는 칸을 통째로 비우는 것으로 만료시킨다. (항목별 타임스탬프 비교 없음)
+    - fingerprint 로 나눈 stripe 마다 별도의 락과 wheel 을 두어 확인 후 기록(check-then-put)을 원자적으로 처리한다.
+    - stripe 별 상한(maxEntries / STRIPES)을 넘으면 가장 오래된 칸부터 미리 비운다. (해당 방문자는 다시 카운트될 수 있음)
+ */
 @Component
-public class LocalPostViewDebounce {
-    private final Map<String, Long> seen = new ConcurrentHashMap<>();
+public class LocalPostViewDebounce implements MeterBinder {
+    private static final int STRIPES = 16;  // 2의 거듭제곱
+    private static final int TICKS = 10;    // 윈도우를 나누는 칸 수
+
+    private final long tickMillis;
+    private final int maxEntriesPerStripe;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public LocalPostViewDebounce(
+            @Value("${app.post.view-debounce.window:10s}") Duration window,
+            @Value("${app.post.view-debounce.max-entries:200000}") int maxEntries
+    ) {
+        this.tickMillis = Math.max(1, window.toMillis() / TICKS);
+        this.maxEntriesPerStripe = Math.max(1, maxEntries / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
 
     public boolean seenRecently(HttpServletRequest request, Long userId, Long postId) {
-        String userKey = UserKeyGenerator.generate(request, userId);
-        String key = "post:view:seen:" + postId + ":" + userKey;
-        Long now = Instant.now().toEpochMilli();
+        return seenRecently(key(postId, UserKeyGenerator.fingerprint(request, userId)), System.currentTimeMillis());
+    }
+
+    boolean seenRecently(long key, long nowMillis) {
+        Stripe stripe = stripes[(int) (key >>> 32) & (STRIPES - 1)];
+        synchronized (stripe) {
+            return stripe.seenOrRecord(key, nowMillis / tickMillis);
+        }
+    }
+
+    public long size() {
+        long size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size;
+            }
+        }
+        return size;
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("post.view.debounce.size", this, LocalPostViewDebounce::size)
+                .description("조회수 중복 방지를 위해 기억 중인 (게시글, 방문자) 수")
+                .register(registry);
+        FunctionCounter.builder("post.view.debounce.removals", expirations, LongAdder::sum)
+                .tag("cause", "expired")
+                .register(registry);
+        FunctionCounter.builder("post.view.debounce.removals", evictions, LongAdder::sum)
+                .tag("cause", "size")
+                .description("메모리 상한으로 만료 전에 제거된 항목 수")
+                .register(registry);
+    }
+
+    static long key(long postId, long userFingerprint) {
+        long key = UserKeyGenerator.mix(userFingerprint ^ UserKeyGenerator.mix(postId));
+        return key == 0 ? 1 : key; // 0은 LongHashSet 의 빈 칸 표시
+    }
+
+    /*
+        slots[tick % slots.length] 에 해당 tick 에 기록된 키가 들어있다.
+        현재 tick 을 포함해 TICKS + 1 칸을 유지하므로, 기록된 키는 최소 윈도우 길이 동안 유지된다.
+     */
+    private final class Stripe {
+        private final LongHashSet[] slots = new LongHashSet[TICKS + 1];
+        private long currentTick = Long.MIN_VALUE;
+        private int size;
+
+        private Stripe() {
+            for (int i = 0; i < slots.length; i++) {
+                slots[i] = new LongHashSet();
+            }
+        }
+
+        private boolean seenOrRecord(long key, long nowTick) {
+            advance(nowTick);
+            for (LongHashSet slot : slots) {
+                if (slot.contains(key)) {
+                    return true;
+                }
+            }
+            if (size >= maxEntriesPerStripe) {
+                evictOldest();
+            }
+            slots[slotIndex(currentTick)].add(key);
+            size++;
+            return false;
+        }
+
+        // 지나간 tick 의 칸을 비운다. 시계가 뒤로 가면 현재 tick 을 유지한다.
+        private void advance(long nowTick) {
+            if (currentTick == Long.MIN_VALUE) {
+                currentTick = nowTick;
+                return;
+            }
+            if (nowTick <= currentTick) {
+                return;
+            }
+            long steps = Math.min(nowTick - currentTick, slots.length);
+            for (long i = 1; i <= steps; i++) {
+                expirations.add(clear(slotIndex(currentTick + i)));
+            }
+            currentTick = nowTick;
+        }
+
+        private void evictOldest() {
+            for (int i = 1; i <= slots.length; i++) {
+                int index = slotIndex(currentTick + i);
+                if (!slots[index].isEmpty()) {
+                    evictions.add(clear(index));
+                    return;
+                }
+            }
+        }
+
+        private int clear(int index) {
+            int removed = slots[index].size();
+            slots[index].clear();
+            size -= removed;
+            return removed;
+        }
 
-        Long lastSeen = seen.get(key);
-        final long refreshInterval = 10 * 1000; // 10초 이내 재방문시 카운트 하지 않음
-        if (lastSeen != null && now - lastSeen < refreshInterval) {
-            return true;
+        private int slotIndex(long tick) {
+            return (int) Math.floorMod(tick, (long) slots.length);
         }
-        seen.put(key, now);
-        return false;
     }
 }
@@ -0,0 +1,83 @@
+package org.restapi.springrestapi.service.post;
+
+import java.util.Arrays;
+
+/*
+    박싱 없이 long 값을 보관하는 open addressing(선형 탐사) 해시 셋.
+    - 0 은 빈 칸 표시로 쓰므로 저장할 수 없다. (호출 측에서 0 이 아닌 값으로 바꿔서 넣는다)
+    - 삭제는 지원하지 않고 clear 로 통째로 비운다. 동기화는 호출 측 책임이다.
+ */
+class LongHashSet {
+    private static final int INITIAL_CAPACITY = 16; // 2의 거듭제곱
+
+    private long[] table = new long[INITIAL_CAPACITY];
+    private int size;
+
+    boolean contains(long value) {
+        final int mask = table.length - 1;
+        for (int i = index(value, mask); ; i = (i + 1) & mask) {
+            long current = table[i];
+            if (current == value) {
+                return true;
+            }
+            if (current == 0) {
+                return false;
+            }
+        }
+    }
+
+    boolean add(long value) {
+        if ((size + 1) * 2 > table.length) { // load factor 0.5
+            resize(table.length * 2);
+        }
+        final int mask = table.length - 1;
+        for (int i = index(value, mask); ; i = (i + 1) & mask) {
+            long current = table[i];
+            if (current == value) {
+                return false;
+            }
+            if (current == 0) {
+                table[i] = value;
+                size++;
+                return true;
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    // 크게 늘어났던 테이블은 다시 작게 만들어 메모리를 돌려준다.
+    void clear() {
+        if (table.length > INITIAL_CAPACITY * 4) {
+            table = new long[INITIAL_CAPACITY];
+        } else {
+            Arrays.fill(table, 0L);
+        }
+        size = 0;
+    }
+
+    private void resize(int capacity) {
+        long[] old = table;
+        table = new long[capacity];
+        final int mask = capacity - 1;
+        for (long value : old) {
+            if (value != 0) {
+                int i = index(value, mask);
+                while (table[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                table[i] = value;
+            }
+        }
+    }
+
+    private static int index(long value, int mask) {
+        return (int) (value ^ (value >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,96 @@
+package org.restapi.springrestapi.service.post;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+/*
+    게시글별 집계 컬럼 증감분을 DB 반영 전까지 메모리에 모아두는 버퍼. (조회수/좋아요 수 write-behind 공용)
+    - add 는 게시글별 LongAdder 에 더하기만 한다.
+    - drain 으로 꺼낸 증감분은 release(반영 성공) 또는 restore(반영 실패) 전까지 inFlight 에 남아 pending 에 포함된다.
+      버퍼에서 inFlight 로 옮기는 동안은 write lock 을 잡아, pending 이 옮기는 도중의 값(양쪽 모두 없거나 양쪽 모두 있음)을 읽지 않게 한다.
+    - DB 반영 커밋과 release 는 원자적이지 않다. 그 사이 읽은 DB 값 + pending 은 한 번의 drain 분만큼 잠시 어긋날 수 있다.
+    - drain / release / restore 는 한 스레드(flush)에서만 호출한다.
+ */
+class PostCounterDeltas {
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final Map<Long, Long> inFlight = new ConcurrentHashMap<>();
+    private Map<Long, LongAdder> retired = new HashMap<>();
+    private final StampedLock transferLock = new StampedLock();
+
+    void add(Long postId, long delta) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).add(delta);
+    }
+
+    // 아직 DB에 반영되지 않은 증감분(버퍼 + 반영 중)
+    long pending(Long postId) {
+        long stamp = transferLock.tryOptimisticRead();
+        long value = read(postId);
+        if (!transferLock.validate(stamp)) {
+            stamp = transferLock.readLock();
+            try {
+                value = read(postId);
+            } finally {
+                transferLock.unlockRead(stamp);
+            }
+        }
+        return value;
+    }
+
+    private long read(Long postId) {
+        LongAdder buffered = pending.get(postId);
+        return (buffered == null ? 0 : buffered.sum()) + inFlight.getOrDefault(postId, 0L);
+    }
+
+    int size() {
+        return pending.size();
+    }
+
+    /*
+        카운터는 맵에서 떼어낸 뒤 한 주기 동안 retired 로 보관해,
+        computeIfAbsent 와 add 사이에 끼어든 증감분도 다음 drain 에서 가져간다.
+     */
+    Map<Long, Integer> drain() {
+        Map<Long, Integer> deltas = new HashMap<>();
+        long stamp = transferLock.writeLock();
+        try {
+            retired.forEach((postId, counter) -> collect(deltas, postId, counter.sumThenReset()));
+            retired = new HashMap<>();
+
+            pending.forEach((postId, counter) -> {
+                collect(deltas, postId, counter.sumThenReset());
+                if (pending.remove(postId, counter)) {
+                    retired.put(postId, counter);
+                }
+            });
+        } finally {
+            transferLock.unlockWrite(stamp);
+        }
+        return deltas;
+    }
+
+    void release(Long postId, long delta) {
+        inFlight.computeIfPresent(postId, (id, remaining) -> remaining == delta ? null : remaining - delta);
+    }
+
+    // 반영에 실패한 증감분을 다음 drain 에서 다시 가져가도록 버퍼로 되돌린다.
+    void restore(Long postId, long delta) {
+        long stamp = transferLock.writeLock();
+        try {
+            add(postId, delta);
+            release(postId, delta);
+        } finally {
+            transferLock.unlockWrite(stamp);
+        }
+    }
+
+    private void collect(Map<Long, Integer> deltas, Long postId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        inFlight.merge(postId, delta, Long::sum);
+        deltas.merge(postId, Math.toIntExact(delta), Integer::sum);
+    }
+}
@@ -0,0 +1,208 @@
+package org.restapi.springrestapi.service.post;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.restapi.springrestapi.dto.post.PostResult;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/*
+    커서 없는 게시글 목록(첫 페이지)용 write-through 캐시.
+    - 최신 CAPACITY개의 PostResult(didLike = false)를 불변 리스트로 보관한다.
+    - 게시글 생성/수정/삭제, 좋아요/조회수/댓글 수 변경은 커밋 이후 캐시에 반영한다.
+    - 변경이 진행 중이거나 로딩 도중 변경이 발생하면, 로딩 결과는 응답에만 쓰고 캐시에는 저장하지 않는다.
+ */
+@Component
+public class PostFeedCache implements MeterBinder {
+    // PostFinder의 limit 상한과 동일하게 유지한다.
+    public static final int CAPACITY = 10;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private final Object lock = new Object();
+    private volatile List<PostResult> entries; // null 이면 비어있는(cold) 상태
+    private long generation;                   // lock 으로 보호
+    private int pendingMutations;              // lock 으로 보호
+
+    public List<PostResult> getFirstPage(int limit, Supplier<List<PostResult>> loader) {
+        final int size = Math.min(Math.max(limit, 1), CAPACITY);
+
+        List<PostResult> snapshot = entries;
+        if (snapshot != null) {
+            hits.increment();
+            return head(snapshot, size);
+        }
+        misses.increment();
+
+        final long startGeneration;
+        synchronized (lock) {
+            startGeneration = generation;
+        }
+
+        List<PostResult> loaded = List.copyOf(loader.get());
+        synchronized (lock) {
+            if (generation == startGeneration && pendingMutations == 0 && entries == null) {
+                entries = loaded;
+            }
+        }
+        return head(loaded, size);
+    }
+
+    public void putCreated(PostResult post) {
+        mutate(list -> {
+            List<PostResult> next = new ArrayList<>(list.size() + 1);
+            next.add(post);
+            next.addAll(list);
+            return next.size() > CAPACITY ? next.subList(0, CAPACITY) : next;
+        });
+    }
+
+    public void refresh(Long postId, UnaryOperator<PostResult> change) {
+        mutate(list -> list.stream()
+                .map(post -> post.id().equals(postId) ? change.apply(post) : post)
+                .toList());
+    }
+
+    // 트랜잭션 밖에서 모아 둔 조회수를 반영할 때 쓴다. write 가 성공하면 캐시에도 더한다.
+    public void addViewCounts(Map<Long, Integer> deltas, Runnable write) {
+        writeThrough(write, addEach(deltas, (post, delta) -> post.toBuilder().viewCount(post.viewCount() + delta).build()));
+    }
+
+    // 집계 모드에서 모아 둔 좋아요 수를 반영할 때 쓴다. write 가 성공하면 캐시에도 더한다.
+    public void addLikeCounts(Map<Long, Integer> deltas, Runnable write) {
+        writeThrough(write, addEach(deltas, (post, delta) -> post.toBuilder().likeCount(post.likeCount() + delta).build()));
+    }
+
+    public void changeLikeCount(Long postId, int delta) {
+        refresh(postId, post -> post.toBuilder().likeCount(post.likeCount() + delta).build());
+    }
+
+    public void changeCommentCount(Long postId, int delta) {
+        refresh(postId, post -> post.toBuilder().commentCount(post.commentCount() + delta).build());
+    }
+
+    public void evict(Long postId) {
+        // 첫 페이지에서 빠진 자리를 채울 수 없으므로 포함되어 있으면 통째로 비운다.
+        mutate(list -> list.stream().anyMatch(post -> post.id().equals(postId)) ? null : list);
+    }
+
+    public void invalidate() {
+        mutate(list -> null);
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        List<PostResult> snapshot = entries;
+        return snapshot == null ? 0 : snapshot.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("post.feed.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("첫 페이지 게시글 목록 캐시 적중 수")
+                .register(registry);
+        FunctionCounter.builder("post.feed.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("첫 페이지 게시글 목록 캐시 미스 수")
+                .register(registry);
+        Gauge.builder("post.feed.cache.size", this, PostFeedCache::size)
+                .register(registry);
+    }
+
+    /*
+        트랜잭션 안이라면 커밋 이후에 반영한다.
+        반영 전까지는 pendingMutations 로 표시해 두어, 그 사이에 로딩된 결과가 캐시에 저장되지 않도록 한다.
+     */
+    private void mutate(UnaryOperator<List<PostResult>> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            synchronized (lock) {
+                apply(change);
+            }
+            return;
+        }
+
+        synchronized (lock) {
+            generation++;
+            pendingMutations++;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                synchronized (lock) {
+                    pendingMutations--;
+                    if (status == STATUS_COMMITTED) {
+                        apply(change);
+                    } else {
+                        generation++;
+                    }
+                }
+            }
+        });
+    }
+
+    /*
+        트랜잭션 없이 DB 를 쓰는 경우. 쓰기 전에 pendingMutations 를 올려 두어,
+        커밋 직후 ~ 캐시 반영 전에 로딩된 결과(이미 증가분 포함)가 저장된 뒤 증가분이 한 번 더 더해지지 않게 한다.
+     */
+    private void writeThrough(Runnable write, UnaryOperator<List<PostResult>> change) {
+        synchronized (lock) {
+            generation++;
+            pendingMutations++;
+        }
+        boolean written = false;
+        try {
+            write.run();
+            written = true;
+        } finally {
+            synchronized (lock) {
+                pendingMutations--;
+                if (written) {
+                    apply(change);
+                } else {
+                    generation++;
+                }
+            }
+        }
+    }
+
+    private static UnaryOperator<List<PostResult>> addEach(Map<Long, Integer> deltas,
+                                                            BiFunction<PostResult, Integer, PostResult> add) {
+        return list -> list.stream()
+                .map(post -> deltas.containsKey(post.id()) ? add.apply(post, deltas.get(post.id())) : post)
+                .toList();
+    }
+
+    // lock 을 잡은 상태에서만 호출한다.
+    private void apply(UnaryOperator<List<PostResult>> change) {
+        generation++;
+        List<PostResult> current = entries;
+        if (current != null) {
+            List<PostResult> next = change.apply(current);
+            entries = next == null ? null : List.copyOf(next);
+        }
+    }
+
+    private static List<PostResult> head(List<PostResult> list, int size) {
+        return list.size() <= size ? list : list.subList(0, size);
+    }
+}
@@ -0,0 +1,176 @@
+package org.restapi.springrestapi.service.post;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.restapi.springrestapi.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+    인기 게시글의 좋아요 수 집계 계층.
+    - 평소에는 좋아요 토글마다 post 행을 바로 갱신한다. (immediate)
+    - 한 게시글의 좋아요 쓰기가 초당 hotWritesPerSecond 회를 넘으면 coolDown 동안 집계 모드로 전환한다. (aggregated)
+      집계 모드에서는 증감분을 메모리에 모았다가 주기적인 reconcile 에서 UPDATE ... CASE 로 묶어서 반영한다.
+    - 증감분은 좋아요 행을 바꾼 트랜잭션이 커밋된 뒤에 버퍼에 더한다.
+ */
+@Slf4j
+@Component
+public class PostLikeCountAggregator implements MeterBinder {
+    private final PostRepository postRepository;
+    private final PostFeedCache postFeedCache;
+    private final int hotWritesPerSecond;
+    private final long coolDownMillis;
+
+    private final Map<Long, WriteRate> rates = new ConcurrentHashMap<>();
+    private final PostCounterDeltas deltas = new PostCounterDeltas();
+    // flush 는 DB 쓰기를 포함하므로 virtual thread 를 carrier 에 고정시키지 않도록 synchronized 대신 사용한다.
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final LongAdder aggregatedWrites = new LongAdder();
+    private final LongAdder failedFlushes = new LongAdder();
+
+    public PostLikeCountAggregator(
+            PostRepository postRepository,
+            PostFeedCache postFeedCache,
+            @Value("${app.post.like-aggregation.hot-writes-per-second:20}") int hotWritesPerSecond,
+            @Value("${app.post.like-aggregation.cool-down-ms:10000}") long coolDownMillis
+    ) {
+        this.postRepository = postRepository;
+        this.postFeedCache = postFeedCache;
+        this.hotWritesPerSecond = hotWritesPerSecond;
+        this.coolDownMillis = coolDownMillis;
+    }
+
+    /*
+        좋아요 수 변경을 기록한다.
+        집계 모드면 true 를 반환하며, 호출 측은 post 행을 직접 갱신하지 않는다.
+        immediate 모드면 false 를 반환하고, 호출 측이 바로 갱신한다.
+     */
+    public boolean record(Long postId, int delta) {
+        if (!isHot(postId, System.currentTimeMillis())) {
+            return false;
+        }
+
+        aggregatedWrites.increment();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deltas.add(postId, delta);
+                }
+            });
+        } else {
+            deltas.add(postId, delta);
+        }
+        return true;
+    }
+
+    // 아직 post.like_count 에 반영되지 않은 증감분
+    public long pendingDelta(Long postId) {
+        return deltas.pending(postId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.post.like-aggregation.flush-interval-ms:1000}")
+    public void reconcile() {
+        flushLock.lock();
+        try {
+            evictIdleRates(System.currentTimeMillis());
+
+            Map<Long, Integer> drained = deltas.drain();
+            if (drained.isEmpty()) {
+                return;
+            }
+
+            try {
+                // 피드 캐시에는 UPDATE 가 성공한 뒤 한 번만 더한다. (쓰는 동안 로딩된 목록은 캐시에 저장되지 않는다)
+                postFeedCache.addLikeCounts(drained, () -> postRepository.addLikeCounts(drained));
+            } catch (RuntimeException e) {
+                failedFlushes.increment();
+                log.warn("Failed to reconcile like counts of {} posts", drained.size(), e);
+                drained.forEach(deltas::restore);
+                return;
+            }
+
+            drained.forEach(deltas::release);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        reconcile();
+    }
+
+    public long hotPostCount() {
+        final long now = System.currentTimeMillis();
+        return rates.values().stream().filter(rate -> rate.isHot(now)).count();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("post.like.aggregation.hot.posts", this, PostLikeCountAggregator::hotPostCount)
+                .description("집계 모드로 동작 중인 게시글 수")
+                .register(registry);
+        Gauge.builder("post.like.aggregation.pending", deltas, PostCounterDeltas::size)
+                .register(registry);
+        FunctionCounter.builder("post.like.aggregation.writes", aggregatedWrites, LongAdder::sum)
+                .description("post 행 대신 메모리에 모은 좋아요 수 변경 횟수")
+                .register(registry);
+        FunctionCounter.builder("post.like.aggregation.flush.failures", failedFlushes, LongAdder::sum)
+                .register(registry);
+    }
+
+    boolean isHot(Long postId, long nowMillis) {
+        WriteRate rate = rates.computeIfAbsent(postId, id -> new WriteRate());
+        synchronized (rate) {
+            return rate.recordWrite(nowMillis);
+        }
+    }
+
+    // 집계 모드가 아니고 최근 1초 동안 쓰기가 없던 게시글의 기록은 지운다.
+    private void evictIdleRates(long nowMillis) {
+        rates.entrySet().removeIf(entry -> {
+            WriteRate rate = entry.getValue();
+            synchronized (rate) {
+                return !rate.isHot(nowMillis) && rate.second < nowMillis / 1000 - 1;
+            }
+        });
+    }
+
+    // 초 단위 고정 윈도우로 쓰기 횟수를 센다. synchronized(this) 로 보호한다.
+    private final class WriteRate {
+        private long second = Long.MIN_VALUE;
+        private int writes;
+        private long hotUntilMillis;
+
+        private boolean recordWrite(long nowMillis) {
+            final long nowSecond = nowMillis / 1000;
+            if (second != nowSecond) {
+                second = nowSecond;
+                writes = 0;
+            }
+            if (++writes >= hotWritesPerSecond) {
+                hotUntilMillis = nowMillis + coolDownMillis;
+            }
+            return isHot(nowMillis);
+        }
+
+        private boolean isHot(long nowMillis) {
+            return nowMillis < hotUntilMillis;
+        }
+    }
+}
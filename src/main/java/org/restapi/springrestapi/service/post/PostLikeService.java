@@ -2,9 +2,10 @@ package org.restapi.springrestapi.service.post;
 
 import lombok.RequiredArgsConstructor;
 import org.restapi.springrestapi.dto.post.PatchPostLikeResult;
+import org.restapi.springrestapi.dto.post.PostLikeState;
+import org.restapi.springrestapi.exception.AppException;
+import org.restapi.springrestapi.exception.code.UserErrorCode;
 import org.restapi.springrestapi.finder.PostFinder;
-import org.restapi.springrestapi.finder.UserFinder;
-import org.restapi.springrestapi.model.PostLike;
 import org.restapi.springrestapi.repository.PostLikeRepository;
 import org.restapi.springrestapi.repository.PostRepository;
 import org.springframework.stereotype.Service;
@@ -16,30 +17,46 @@ import org.springframework.transaction.annotation.Transactional;
 public class PostLikeService {
     private final PostRepository postRepository;
     private final PostLikeRepository postLikeRepository;
-    private final UserFinder userFinder;
     private final PostFinder postFinder;
+    private final PostFeedCache postFeedCache;
+    private final PostLikeCountAggregator postLikeCountAggregator;
 
+    /*
+        좋아요 여부를 정하고 반영하는 데는 두 문장만 쓴다.
+        1) 게시글 존재 여부 + 요청자가 탈퇴하지 않은 사용자인지 + 좋아요 여부 + 좋아요 수를 한 번에 조회
+           (요청자는 지연 로딩되는 principal 이라 탈퇴 여부를 여기서 확인한다)
+        2) 조건부 DELETE / INSERT 로 토글하고, 영향받은 행 수로 증감분을 정한다.
+        실제로 행이 바뀐 경우에만 좋아요 수를 갱신한다. 인기 게시글은 PostLikeCountAggregator 가 모아서 반영하므로 문장이 늘지 않고,
+        그 밖의 게시글은 post 테이블에 UPDATE 가 한 번 더 필요하다. (좋아요 행과 좋아요 수가 다른 테이블에 있다)
+        응답하는 좋아요 수는 다시 읽지 않고 1)의 값에 증감분을 더한다. 1) 이후 다른 사용자의 변경은 다음 조회에서 보인다.
+        동시 요청으로 이미 반영되었거나 1) 이후 게시글이 삭제된 경우 2)가 0건이 되어 아무것도 바꾸지 않는다.
+     */
     public PatchPostLikeResult togglePostLike(Long userId, Long postId) {
-        userFinder.existsByIdOrThrow(userId);
-		postFinder.existsByIdOrThrow(postId);
-
-        final boolean wasLiked = postLikeRepository.existsByUserIdAndPostId(userId, postId);
+        PostLikeState state = postFinder.findLikeStateOrThrow(postId, userId);
+        if (!state.userExists()) {
+            throw new AppException(UserErrorCode.USER_NOT_FOUND);
+        }
 
-        int likeCount;
-        if (wasLiked) {
-            PostLike postLike = postLikeRepository.findByUserIdAndPostId(userId, postId);
-            postLikeRepository.delete(postLike);
-            postRepository.decreaseLikeCount(postId);
+        final boolean didLike = !state.didLike();
+        final int changed = didLike
+                ? postLikeRepository.insertIfAbsent(userId, postId)
+                : postLikeRepository.deleteIfPresent(userId, postId);
 
-        } else {
-            postLikeRepository.save(new PostLike(
-				userFinder.findProxyById(userId),
-				postFinder.findProxyById(postId)
-			));
-			postRepository.increaseLikeCount(postId);
+        final int delta = (changed == 0) ? 0 : (didLike ? 1 : -1);
+        final boolean aggregated = delta != 0 && postLikeCountAggregator.record(postId, delta);
+        if (delta != 0 && !aggregated) {
+            if (delta > 0) {
+                postRepository.increaseLikeCount(postId);
+            } else {
+                postRepository.decreaseLikeCount(postId);
+            }
+            postFeedCache.changeLikeCount(postId, delta);
         }
 
-        likeCount = postRepository.findLikeCountById(postId).orElse(0);
-        return PatchPostLikeResult.from(likeCount, !wasLiked);
+        // 1)의 좋아요 수에는 이번 변경분이 없고, 집계 계층에 맡긴 변경분은 커밋 후에 pendingDelta 에 더해지므로 직접 더한다.
+        final int likeCount = state.likeCount()
+                + (int) postLikeCountAggregator.pendingDelta(postId)
+                + delta;
+        return PatchPostLikeResult.from(likeCount, didLike);
     }
 }
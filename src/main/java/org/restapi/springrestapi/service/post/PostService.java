@@ -1,11 +1,19 @@
 package org.restapi.springrestapi.service.post;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 import jakarta.servlet.http.HttpServletRequest;
+import org.restapi.springrestapi.common.util.ETags;
+import org.restapi.springrestapi.common.util.FileStorageService;
+import org.restapi.springrestapi.common.util.ImageVariant;
 import org.restapi.springrestapi.dto.post.PatchPostRequest;
+import org.restapi.springrestapi.dto.post.PostDetailProjection;
+import org.restapi.springrestapi.dto.post.PostDetailResult;
 import org.restapi.springrestapi.dto.post.PostListResult;
 import org.restapi.springrestapi.dto.post.PostResult;
+import org.restapi.springrestapi.dto.post.PostVersion;
 import org.restapi.springrestapi.dto.post.CreatePostRequest;
 import org.restapi.springrestapi.exception.AppException;
 import org.restapi.springrestapi.exception.code.PostErrorCode;
@@ -17,6 +25,7 @@ import org.restapi.springrestapi.repository.PostRepository;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -27,20 +36,48 @@ public class PostService {
 	private final PostFinder postFinder;
     private final UserFinder userFinder;
     private final LocalPostViewDebounce localPostViewDebounce;
+    private final PostFeedCache postFeedCache;
+    private final PostViewCountBuffer postViewCountBuffer;
+    private final PostLikeCountAggregator postLikeCountAggregator;
+    private final FileStorageService fileStorageService;
 
 	public PostResult createPost(Long authorId, CreatePostRequest req) {
         User author = userFinder.findByIdOrAuthThrow(authorId);
-		return PostResult.from(postRepository.save(Post.from(req, author)), false);
+		PostResult created = PostResult.from(postRepository.save(Post.from(req, author)), false);
+        fileStorageService.retain(created.thumbnailImageUrl());
+
+		postFeedCache.putCreated(created);
+		return created;
 	}
 
-    public PostListResult getPostList(Long cursor, int limit) {
-        List<PostResult> postList = postFinder.findPostSummarySlice(cursor, limit).getContent();
+    // 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션을 열지 않는다.
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public PostListResult getPostList(Long userIdOrNull, Long cursor, int limit) {
+        List<PostResult> postList = (cursor == null)
+                ? postFeedCache.getFirstPage(limit, () -> postFinder.findPostSummarySlice(null, PostFeedCache.CAPACITY).getContent())
+                : postFinder.findPostSummarySlice(cursor, limit).getContent();
 
         if (postList.isEmpty() && cursor != null) {
             return PostListResult.from(List.of(), cursor);
         }
 
-        return PostListResult.from(postList, calcNextCursor(postList));
+        return PostListResult.from(applyDidLike(userIdOrNull, withPendingCounts(postList)), calcNextCursor(postList));
+    }
+
+    // 캐시/조회 결과는 didLike = false 로 공유하고, 로그인 사용자의 좋아요 여부는 한 번의 IN 조회로 덮어쓴다.
+    private List<PostResult> applyDidLike(Long userIdOrNull, List<PostResult> postList) {
+        if (userIdOrNull == null || postList.isEmpty()) {
+            return postList;
+        }
+
+        Set<Long> likedPostIds = postFinder.findLikedPostIds(userIdOrNull, postList.stream().map(PostResult::id).toList());
+        if (likedPostIds.isEmpty()) {
+            return postList;
+        }
+
+        return postList.stream()
+                .map(post -> likedPostIds.contains(post.id()) ? post.toBuilder().didLike(true).build() : post)
+                .toList();
     }
 
 	private int calcNextCursor(List<PostResult> postList) {
@@ -48,15 +85,68 @@ public class PostService {
 		return (int) Math.max(lastIdDesc - 1, 1);
 	}
 
-    public PostResult getPost(HttpServletRequest req, Long userIdOrNull, Long id) {
-        Post post = postFinder.findByIdOrThrow(id);
+    /*
+        조회수는 PostViewCountBuffer 에 모았다가 주기적으로 반영하므로, 상세 조회는 읽기 전용으로 끝난다.
+        ETag 는 getPostETag 와 같은 값으로 만들되 본문과 같은 조회 결과를 쓴다.
+        따로 읽으면 그 사이의 수정이 섞여, 응답의 ETag 가 다른 상태의 본문을 가리킬 수 있다.
+     */
+    @Transactional(readOnly = true)
+    public PostDetailResult getPost(Long userIdOrNull, Long id) {
+        PostDetailProjection detail = postFinder.findPostDetailOrThrow(id, userIdOrNull);
+        PostResult post = withPendingCounts(PostResult.from(detail));
+
+        return new PostDetailResult(eTagOf(id, PostVersion.from(detail), post.likeCount()), post);
+    }
 
-        final boolean didLike = postFinder.isDidLikeUser(id, userIdOrNull);
+    /*
+        상세 응답에 들어가는 값(반영 전 좋아요 증감분 포함)이 바뀌면 달라진다.
+        조회수는 넣지 않는다. 조회할 때마다 바뀌는 값이라, 넣으면 같은 글을 다시 조회하는 요청이 304 로 끝나지 않는다.
+        (약한 ETag 이므로 304 로 재사용된 응답의 조회수는 실제보다 작을 수 있다)
+        If-None-Match 를 보낸 요청에서만 쓰고, 200 응답의 ETag 는 getPost 가 본문과 함께 만든다.
+     */
+    @Transactional(readOnly = true)
+    public String getPostETag(Long userIdOrNull, Long id) {
+        PostVersion version = postFinder.findVersionOrThrow(id, userIdOrNull);
+
+        return eTagOf(id, version, version.likeCount() + postLikeCountAggregator.pendingDelta(id));
+    }
+
+    private static String eTagOf(Long id, PostVersion version, long likeCount) {
+        return ETags.weak(
+                id,
+                version.updatedAt(),
+                likeCount,
+                version.commentCount(),
+                version.authorProfileUpdatedAt(),
+                version.didLike());
+    }
+
+    // 304 로 끝나는 조회도 조회수에 포함하므로, 컨트롤러가 If-None-Match 비교 뒤에 호출한다.
+    // 메모리에만 기록하므로 클래스의 트랜잭션(커넥션 획득)을 쓰지 않는다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void recordView(HttpServletRequest req, Long userIdOrNull, Long id) {
         if (!localPostViewDebounce.seenRecently(req, userIdOrNull, id)) {
-            postRepository.incrementViewCount(id);
+            postViewCountBuffer.increment(id);
         }
+    }
 
-        return PostResult.from(post, didLike);
+    // DB 값에 아직 반영되지 않은 조회수/좋아요 수 증감분을 더해, 응답 값이 반영 주기와 무관하게 최신이 되도록 한다.
+    private List<PostResult> withPendingCounts(List<PostResult> postList) {
+        return postList.stream()
+                .map(this::withPendingCounts)
+                .toList();
+    }
+
+    private PostResult withPendingCounts(PostResult post) {
+        final long pendingViews = postViewCountBuffer.pendingCount(post.id());
+        final long pendingLikes = postLikeCountAggregator.pendingDelta(post.id());
+        if (pendingViews == 0 && pendingLikes == 0) {
+            return post;
+        }
+        return post.toBuilder()
+                .viewCount(post.viewCount() + (int) pendingViews)
+                .likeCount(post.likeCount() + (int) pendingLikes)
+                .build();
     }
 
 	public void updatePost(Long userId, Long id, PatchPostRequest req) {
@@ -64,7 +154,18 @@ public class PostService {
 
 		validatePermission(post, userId);
 
+        String previousThumbnailUrl = post.getThumbnailImageUrl();
         post.update(req);
+        if (!Objects.equals(previousThumbnailUrl, post.getThumbnailImageUrl())) {
+            fileStorageService.retain(post.getThumbnailImageUrl());
+            fileStorageService.release(previousThumbnailUrl);
+        }
+        postFeedCache.refresh(id, cached -> cached.toBuilder()
+                .title(post.getTitle())
+                .content(post.getContent())
+                .thumbnailImageUrl(post.getThumbnailImageUrl())
+                .thumbnailPreviewUrl(ImageVariant.PREVIEW.urlOf(post.getThumbnailImageUrl()))
+                .build());
 	}
 
 	public void deletePost(Long userId, Long postId) {
@@ -73,6 +174,8 @@ public class PostService {
 		validatePermission(post, userId);
 
 		postRepository.deleteById(postId);
+		fileStorageService.release(post.getThumbnailImageUrl());
+		postFeedCache.evict(postId);
 	}
 
 	private void validatePermission(Post post, Long authorId) {
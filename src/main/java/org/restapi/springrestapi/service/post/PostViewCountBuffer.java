@@ -0,0 +1,97 @@
+package org.restapi.springrestapi.service.post;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.restapi.springrestapi.repository.PostRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+    게시글 조회수 write-behind 버퍼.
+    - 조회 시에는 게시글별 카운터만 증가시키고, DB 반영은 주기적인 flush 에서 UPDATE ... CASE 로 묶어서 처리한다.
+    - flush 중인 증가분도 pendingCount 에 포함된다.
+      단, UPDATE 커밋과 pendingCount 에서 빠지는 시점 사이에 읽은 조회 응답(DB 값 + pendingCount)은
+      한 번의 flush 증가분만큼 잠시 크거나 작게 보일 수 있다. (단조 증가를 보장하지 않는다)
+    - 종료 시(@PreDestroy) 남은 증가분을 모두 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCountBuffer implements MeterBinder {
+    private final PostRepository postRepository;
+    private final PostFeedCache postFeedCache;
+
+    private final PostCounterDeltas deltas = new PostCounterDeltas();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final LongAdder flushedViews = new LongAdder();
+    private final LongAdder failedFlushes = new LongAdder();
+
+    public void increment(Long postId) {
+        deltas.add(postId, 1);
+    }
+
+    // 아직 DB에 반영되지 않은 조회수(버퍼 + 반영 중)
+    public long pendingCount(Long postId) {
+        return deltas.pending(postId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.post.view-count.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<Long, Integer> drained = deltas.drain();
+            if (drained.isEmpty()) {
+                return;
+            }
+
+            try {
+                postFeedCache.addViewCounts(drained, () -> postRepository.addViewCounts(drained));
+            } catch (RuntimeException e) {
+                // 다음 flush 에서 다시 시도하도록 버퍼로 되돌린다.
+                failedFlushes.increment();
+                log.warn("Failed to flush view counts of {} posts", drained.size(), e);
+                drained.forEach(deltas::restore);
+                return;
+            }
+
+            drained.forEach((postId, delta) -> {
+                deltas.release(postId, delta);
+                flushedViews.add(delta);
+            });
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        flush();
+    }
+
+    public int size() {
+        return deltas.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("post.view.buffer.pending", this, PostViewCountBuffer::size)
+                .description("DB 반영을 기다리는 게시글 수")
+                .register(registry);
+        FunctionCounter.builder("post.view.buffer.flushed", flushedViews, LongAdder::sum)
+                .description("DB에 반영된 조회수")
+                .register(registry);
+        FunctionCounter.builder("post.view.buffer.flush.failures", failedFlushes, LongAdder::sum)
+                .register(registry);
+    }
+}
@@ -1,29 +1,69 @@
 package org.restapi.springrestapi.service.post;
 
 import jakarta.servlet.http.HttpServletRequest;
-import org.springframework.util.DigestUtils;
-
-import java.nio.charset.StandardCharsets;
 
+/*
+    조회수 중복 방지용 방문자 식별값(64bit).
+    - 로그인 사용자는 userId, 비로그인 사용자는 (클라이언트 IP, User-Agent) 로 식별한다.
+    - 헤더 문자를 그대로 순회하며 해시하므로 split/문자열 결합/byte[] 같은 중간 객체를 만들지 않는다.
+    - 암호학적 해시가 아니다. 중복 방지 키로만 사용한다.
+ */
 public class UserKeyGenerator {
-    public static String generate(HttpServletRequest request, Long userId) {
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long USER_SEED = 0x9e3779b97f4a7c15L;
+
+    public static long fingerprint(HttpServletRequest request, Long userId) {
         if (userId != null) {
-            return "user:" + userId;
+            return mix(userId ^ USER_SEED);
         }
-        String ip = getRealClientIp(request);
-        String ua = request.getHeader("User-Agent");
-        String raw = (ip == null ? "" : ip) + "|" + (ua == null ? "" : ua);
 
-        return "anon:" + DigestUtils.md5DigestAsHex(raw.getBytes(StandardCharsets.UTF_8));
+        long hash = FNV_OFFSET;
+        String xff = request.getHeader("X-Forwarded-For");
+        if (xff != null && !xff.isBlank()) {
+            hash = hashFirstHop(hash, xff);
+        } else {
+            hash = hash(hash, request.getRemoteAddr());
+        }
+        hash = (hash ^ '|') * FNV_PRIME;
+        hash = hash(hash, request.getHeader("User-Agent"));
+
+        return mix(hash);
     }
 
-    private static String getRealClientIp(HttpServletRequest req) {
-        String xff = req.getHeader("X-Forwarded-For");
+    // "client, proxy1, proxy2" 에서 첫 번째 주소만 앞뒤 공백을 제외하고 해시한다.
+    private static long hashFirstHop(long hash, String xff) {
+        int end = xff.indexOf(',');
+        if (end < 0) {
+            end = xff.length();
+        }
+        int start = 0;
+        while (start < end && xff.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && xff.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return hash(hash, xff, start, end);
+    }
 
-        if (xff != null && !xff.isBlank()) {
-            return xff.split(",")[0].trim();
+    private static long hash(long hash, String value) {
+        return value == null ? hash : hash(hash, value, 0, value.length());
+    }
+
+    // FNV-1a 64bit
+    private static long hash(long hash, String value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
         }
+        return hash;
+    }
 
-        return req.getRemoteAddr();
+    // SplitMix64 finalizer
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
     }
 }
@@ -0,0 +1,105 @@
+package org.restapi.springrestapi.validator;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.restapi.springrestapi.finder.UserFinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+    사용 중인 닉네임의 Bloom filter. 닉네임 사용 가능 여부 안내(GET /users/nickname-availability)에만 쓴다.
+    - 시작 시와 주기적으로(rebuild-interval-ms) 전체 사용자로 새 filter 를 만들어 바꾸고,
+      그 사이에는 이 인스턴스에서 일어난 가입과 닉네임 변경 시 새 값을 추가한다.
+    - "없음" 이면 쿼리를 건너뛰고, "있을 수도 있음" 일 때만 DB 로 확인한다.
+    - 다른 인스턴스에서 가입/변경된 닉네임은 다음 재구성 전까지 모르므로 "없음" 이 최대 재구성 간격만큼 틀릴 수 있다.
+      그래서 가입과 프로필 변경의 중복 검사는 이 filter 를 거치지 않고 항상 DB 로 확인한다.
+    - 탈퇴나 닉네임 변경으로 풀린 값, 롤백된 트랜잭션의 값은 지울 수 없어 다음 재구성까지 DB 확인이 한 번 늘어난다.
+      재구성할 때 사용자 수에 맞춰 크기를 다시 정하므로 false positive 비율도 설정값 근처로 돌아온다.
+ */
+@Slf4j
+@Component
+public class TakenUserNames implements MeterBinder {
+    private final UserFinder userFinder;
+    private final int expectedUsers;
+    private final double falsePositiveRate;
+    private volatile BloomFilter nicknames;
+    private volatile Queue<String> addedDuringRebuild; // 재구성 중에 추가된 값을 새 filter 에도 넣기 위해 모아 둔다.
+
+    private final LongAdder skippedNicknameQueries = new LongAdder();
+
+    public TakenUserNames(
+            UserFinder userFinder,
+            @Value("${app.user.taken-names.expected-users:100000}") int expectedUsers,
+            @Value("${app.user.taken-names.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.userFinder = userFinder;
+        this.expectedUsers = expectedUsers;
+        this.falsePositiveRate = falsePositiveRate;
+        this.nicknames = new BloomFilter(expectedUsers, falsePositiveRate);
+    }
+
+    @PostConstruct
+    void load() {
+        rebuild();
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.user.taken-names.rebuild-interval-ms:600000}",
+            fixedDelayString = "${app.user.taken-names.rebuild-interval-ms:600000}"
+    )
+    public void rebuild() {
+        Queue<String> added = new ConcurrentLinkedQueue<>();
+        addedDuringRebuild = added;
+        try {
+            List<String> taken = userFinder.findAllNicknames();
+            BloomFilter next = new BloomFilter(Math.max(expectedUsers, taken.size()), falsePositiveRate);
+            taken.forEach(next::put);
+            nicknames = next;
+            added.forEach(next::put);
+            log.info("Rebuilt taken nicknames bloom filter ({} names, {} bits)", taken.size(), next.bitSize());
+        } catch (RuntimeException e) {
+            // 재구성에 실패해도 기존 filter 로 동작한다. (DB 확인이 조금 늘어날 수 있을 뿐이다)
+            log.warn("Failed to rebuild taken nicknames bloom filter", e);
+        } finally {
+            addedDuringRebuild = null;
+        }
+    }
+
+    public boolean mightContainNickname(String nickname) {
+        if (nickname == null) {
+            return false;
+        }
+        if (nicknames.mightContain(nickname)) {
+            return true;
+        }
+        skippedNicknameQueries.increment();
+        return false;
+    }
+
+    // 재구성 중이면 먼저 대기열에 넣는다. 새 filter 로 바뀐 뒤 대기열을 비우므로, 둘 중 한 곳에서는 반드시 새 filter 에 들어간다.
+    public void putNickname(String nickname) {
+        Queue<String> added = addedDuringRebuild;
+        if (added != null) {
+            added.add(nickname);
+        }
+        nicknames.put(nickname);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("user.taken.names.skipped.queries", skippedNicknameQueries, LongAdder::sum)
+                .tag("kind", "nickname")
+                .description("Bloom filter 로 닉네임 확인 쿼리를 건너뛴 횟수")
+                .register(registry);
+    }
+}
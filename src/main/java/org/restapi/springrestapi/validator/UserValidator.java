@@ -13,6 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class UserValidator {
     private final UserFinder userFinder;
+    private final TakenUserNames takenUserNames;
 
     public void validateDuplicateEmail(String email) {
         if (userFinder.existsByEmail(email)) {
@@ -26,6 +27,15 @@ public class UserValidator {
         }
     }
 
+    /*
+        닉네임 사용 가능 여부 안내용. Bloom filter 에 없으면 쿼리 없이 사용 가능으로 판단한다.
+        filter 는 이 인스턴스에서 일어난 가입/변경만 알기 때문에 결과는 참고용이며,
+        가입과 프로필 변경은 validateDuplicateNickname 으로 DB 를 다시 확인한다.
+     */
+    public boolean isNicknameTaken(String nickname) {
+        return takenUserNames.mightContainNickname(nickname) && userFinder.existsByNickName(nickname);
+    }
+
     public void validateSignUpUser(String email, String nickname) {
         validateDuplicateEmail(email);
         validateDuplicateNickname(nickname);
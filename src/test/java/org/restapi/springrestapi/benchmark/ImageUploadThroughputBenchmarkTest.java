@@ -0,0 +1,182 @@
+package org.restapi.springrestapi.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.restapi.springrestapi.common.util.ImageVariantGenerator;
+import org.restapi.springrestapi.common.util.LocalFileStorageService;
+import org.restapi.springrestapi.repository.StoredImageRepository;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/*
+    동시 이미지 업로드 처리량 비교. 업로드 part 는 Tomcat 처럼 미리 디스크에 받아둔 상태(spool)에서 시작한다.
+    - Stream Copy: 기존 방식. part 를 InputStream 으로 읽어 .tmp 에 다시 쓴 뒤 이동한다.
+    - Digest Stream: LocalFileStorageService. .tmp 에 쓰면서 해시를 같이 계산해 part 를 한 번만 읽는다. (시그니처 검사 포함)
+ */
+class ImageUploadThroughputBenchmarkTest {
+
+    private static final int FILE_SIZE = 1024 * 1024;
+    private static final int UPLOADS = 128;
+    private static final int THREADS = 16;
+
+    @TempDir
+    Path root;
+
+    Path spoolDir;
+    Path uploadDir;
+    LocalFileStorageService storageService;
+    ExecutorService executor;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        spoolDir = Files.createDirectories(root.resolve("spool"));
+        uploadDir = Files.createDirectories(root.resolve("upload"));
+        storageService = new LocalFileStorageService(mock(StoredImageRepository.class), mock(ImageVariantGenerator.class));
+        ReflectionTestUtils.setField(storageService, "baseDir", uploadDir.toString());
+        ReflectionTestUtils.setField(storageService, "publicBaseUrl", "http://localhost/upload");
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("동시 업로드: 스트림 복사와 해시 동시 계산 복사의 처리량 비교")
+    void compareUploadPaths() throws Exception {
+        long streamCopy = run(this::legacySave);
+        long digestStream = run(storageService::savePostImage);
+
+        printHeader();
+        printRow("Stream Copy", streamCopy);
+        printRow("Digest Stream", digestStream);
+        System.out.println("=====================================================================");
+
+        try (var files = Files.walk(uploadDir)) {
+            assertThat(files.filter(Files::isRegularFile).count()).isEqualTo(UPLOADS * 2L);
+        }
+    }
+
+    private long run(Consumer<MultipartFile> upload) throws Exception {
+        List<MultipartFile> parts = new ArrayList<>();
+        for (int i = 0; i < UPLOADS; i++) {
+            parts.add(spool());
+        }
+
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (MultipartFile part : parts) {
+            futures.add(executor.submit(() -> upload.accept(part)));
+        }
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        return System.nanoTime() - start;
+    }
+
+    // 변경 전 LocalFileStorageService.save 와 같은 방식
+    private void legacySave(MultipartFile file) {
+        Path dest = uploadDir.resolve("legacy").resolve(UUID.randomUUID() + ".png");
+        Path tmp = dest.resolveSibling(dest.getFileName() + ".tmp");
+        try (InputStream in = file.getInputStream()) {
+            FileUtils.copyInputStreamToFile(in, tmp.toFile());
+            Files.move(tmp, dest, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private MultipartFile spool() throws IOException {
+        // 내용이 같으면 중복 제거로 쓰기를 건너뛰므로 업로드마다 다른 내용을 쓴다.
+        byte[] content = new byte[FILE_SIZE];
+        ThreadLocalRandom.current().nextBytes(content);
+        content[0] = (byte) 0x89;
+        content[1] = 'P';
+        content[2] = 'N';
+        content[3] = 'G';
+        content[4] = '\r';
+        content[5] = '\n';
+        content[6] = 0x1A;
+        content[7] = '\n';
+        return new SpooledPart(Files.write(spoolDir.resolve(UUID.randomUUID() + ".part"), content));
+    }
+
+    private void printHeader() {
+        System.out.println("=====================================================================");
+        System.out.printf("| %-20s | %12s | %12s | %12s |\n", "Strategy Name", "Total Time", "Uploads/Sec", "MB/Sec");
+        System.out.println("---------------------------------------------------------------------");
+    }
+
+    private void printRow(String label, long elapsedNs) {
+        double seconds = elapsedNs / 1_000_000_000.0;
+        System.out.printf("| %-20s | %9d ms | %12.0f | %12.1f |\n", label, TimeUnit.NANOSECONDS.toMillis(elapsedNs),
+            UPLOADS / seconds, UPLOADS * (FILE_SIZE / (1024.0 * 1024.0)) / seconds);
+    }
+
+    // 디스크에 받아둔 part. 서비스는 getInputStream 으로만 읽고, transferTo 는 Tomcat 의 Part.write 처럼 파일을 이동한다.
+    private record SpooledPart(Path path) implements MultipartFile {
+        @Override
+        public String getName() {
+            return "image";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return "image.png";
+        }
+
+        @Override
+        public String getContentType() {
+            return "image/png";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return getSize() == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return FILE_SIZE;
+        }
+
+        @Override
+        public byte[] getBytes() throws IOException {
+            return Files.readAllBytes(path);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(path);
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            Files.move(path, dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package org.restapi.springrestapi.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.restapi.springrestapi.common.APIResponse;
+import org.restapi.springrestapi.common.util.JsonResponseCache;
+import org.restapi.springrestapi.dto.post.PostListResult;
+import org.restapi.springrestapi.dto.post.PostResult;
+import org.restapi.springrestapi.exception.code.SuccessCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    피드 첫 페이지(10건) 응답 1건을 만드는 비용 비교.
+    - Jackson + gzip: 변경 전 흐름 (APIResponse 를 SNAKE_CASE 로 직렬화하고 server.compression 처럼 매번 압축)
+    - Cached: JsonResponseCache 에 저장된 gzip 바이트를 그대로 사용
+    두 경우 모두 PostListResult 는 이미 만들어져 있다고 보고(피드 캐시 적중), 직렬화와 압축 비용만 비교한다.
+ */
+class JsonResponseCacheBenchmarkTest {
+
+    private static final int WARMUP = 5_000;
+    private static final int REPEAT = 20_000;
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+        .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+        .build();
+
+    @Test
+    @DisplayName("요청마다 직렬화/압축하는 경우와 캐시된 gzip 바이트로 응답하는 경우의 요청당 비용 비교")
+    void compareCostPerRequest() throws Exception {
+        PostListResult feed = PostListResult.from(samplePosts(), 90L);
+        JsonResponseCache cache = new JsonResponseCache(objectMapper, 16, DataSize.ofKilobytes(1));
+
+        Result legacy = measure("Jackson + gzip", () -> gzip(serialize(feed)).length);
+        Result cached = measure("Cached", () -> cache.respond(ResponseEntity.ok(), "gzip, deflate, br", feed,
+            () -> APIResponse.ok(SuccessCode.GET_SUCCESS, feed)).getBody().length);
+
+        byte[] json = serialize(feed);
+        System.out.printf("payload: json=%d bytes, gzip=%d bytes%n", json.length, gzip(json).length);
+        print(legacy);
+        print(cached);
+
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cached.bytesPerCall()).isLessThan(legacy.bytesPerCall());
+    }
+
+    private Result measure(String label, LongSupplier action) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += action.getAsLong();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < REPEAT; i++) {
+            sink += action.getAsLong();
+        }
+        long elapsedNs = System.nanoTime() - start;
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        if (sink == 42) { // JIT 가 호출을 제거하지 못하도록 결과를 사용한다.
+            System.out.println(sink);
+        }
+        return new Result(label, TimeUnit.NANOSECONDS.toMillis(elapsedNs),
+            elapsedNs / (double) REPEAT / 1_000, allocated / (double) REPEAT);
+    }
+
+    private void print(Result result) {
+        System.out.println("==================================================================================");
+        System.out.printf("| %-16s | %12s | %12s | %14s |\n", "Strategy Name", "Total Time", "us/Request", "Bytes/Request");
+        System.out.println("----------------------------------------------------------------------------------");
+        System.out.printf("| %-16s | %9d ms | %12.2f | %14.1f |\n",
+            result.label(), result.totalElapsedMs(), result.microsPerCall(), result.bytesPerCall());
+        System.out.println("==================================================================================");
+    }
+
+    private byte[] serialize(PostListResult feed) {
+        try {
+            return objectMapper.writeValueAsBytes(APIResponse.ok(SuccessCode.GET_SUCCESS, feed));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static List<PostResult> samplePosts() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        return LongStream.rangeClosed(91, 100)
+            .mapToObj(id -> PostResult.builder()
+                .id(id)
+                .userId(id % 7)
+                .userNickname("writer" + (id % 7))
+                .userProfileImageUrl("http://localhost:8080/upload/images/ab/profile" + id + ".png")
+                .title("게시글 제목 " + id)
+                .content("게시글 본문입니다. ".repeat(20))
+                .thumbnailImageUrl("http://localhost:8080/upload/images/cd/thumb" + id + ".jpg")
+                .likeCount((int) id)
+                .commentCount((int) (id / 2))
+                .viewCount((int) id * 10)
+                .createdAt(createdAt.plusMinutes(id))
+                .build())
+            .toList();
+    }
+
+    private record Result(String label, long totalElapsedMs, double microsPerCall, double bytesPerCall) { }
+}
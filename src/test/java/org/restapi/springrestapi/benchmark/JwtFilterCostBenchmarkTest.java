@@ -0,0 +1,145 @@
+package org.restapi.springrestapi.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.restapi.springrestapi.finder.UserFinder;
+import org.restapi.springrestapi.repository.UserRepository;
+import org.restapi.springrestapi.security.RevokedUserRegistry;
+import org.restapi.springrestapi.security.jwt.JwtFilter;
+import org.restapi.springrestapi.security.jwt.JwtProperties;
+import org.restapi.springrestapi.security.jwt.JwtProvider;
+import org.restapi.springrestapi.security.jwt.VerifiedToken;
+import org.restapi.springrestapi.security.jwt.VerifiedTokenCache;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/*
+    인증된 요청 1건당 JwtFilter 비용 비교.
+    - Parse x2: 변경 전 흐름 (요청마다 JwtParser 생성, validate 와 getUserId 에서 두 번 파싱)
+    - Parse x1: 미리 만든 JwtParser 로 한 번만 파싱하고 VerifiedToken 을 그대로 사용
+    - Cached: 같은 토큰의 검증 결과를 VerifiedTokenCache 에서 꺼내 서명 검증을 건너뜀
+    인증 정보는 토큰의 식별자만으로 만들어지므로 세 경우 모두 토큰 검증 비용만 차이가 난다.
+ */
+class JwtFilterCostBenchmarkTest {
+
+    private static final String ACCESS_SECRET = "access-secret-access-secret-1234567890";
+    private static final int WARMUP = 20_000;
+    private static final int REPEAT = 100_000;
+
+    private final JwtProperties properties = new JwtProperties(
+        new JwtProperties.Token(ACCESS_SECRET, Duration.ofMinutes(10)),
+        new JwtProperties.Token("refresh-secret-refresh-secret-123456789012", Duration.ofDays(1))
+    );
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("요청마다 두 번 파싱하는 필터와 한 번만 파싱하는 필터의 요청당 소요 시간 비교")
+    void compareFilterCostPerRequest() throws Exception {
+        UserFinder userFinder = mock(UserFinder.class);
+
+        VerifiedTokenCache tokenCache = new VerifiedTokenCache(4096);
+        JwtProvider doubleParse = new LegacyJwtProvider(userFinder, properties);
+        JwtProvider singleParse = new JwtProvider(userFinder, properties, new VerifiedTokenCache(0));
+        JwtProvider cached = new JwtProvider(userFinder, properties, tokenCache);
+        doubleParse.init();
+        singleParse.init();
+        cached.init();
+        String token = singleParse.createAccessToken(1L);
+
+        Result legacy = measure("Parse x2", filter(doubleParse), token);
+        Result current = measure("Parse x1", filter(singleParse), token);
+        Result skipped = measure("Cached", filter(cached), token);
+
+        print(legacy);
+        print(current);
+        print(skipped);
+        System.out.printf("verify cache hit=%d, miss=%d, saved=%.1f ms%n",
+            tokenCache.getHitCount(), tokenCache.getMissCount(), tokenCache.getSavedNanos() / 1_000_000);
+
+        assertThat(tokenCache.getMissCount()).isEqualTo(1);
+    }
+
+    private JwtFilter filter(JwtProvider provider) {
+        return new JwtFilter(provider, new RevokedUserRegistry(mock(UserRepository.class)), (req, res, ex) -> { throw new IllegalStateException(ex); });
+    }
+
+    private Result measure(String label, JwtFilter filter, String token) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            runOnce(filter, token);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < REPEAT; i++) {
+            runOnce(filter, token);
+        }
+        long elapsedNs = System.nanoTime() - start;
+        return new Result(label, TimeUnit.NANOSECONDS.toMillis(elapsedNs), elapsedNs / (double) REPEAT);
+    }
+
+    private void runOnce(JwtFilter filter, String token) throws Exception {
+        // OncePerRequestFilter 는 같은 요청 객체를 한 번만 처리하므로 매번 새 요청을 만든다.
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        SecurityContextHolder.clearContext();
+    }
+
+    private void print(Result result) {
+        System.out.println("=====================================================================");
+        System.out.printf("| %-20s | %12s | %12s |\n", "Strategy Name", "Total Time", "Avg ns/Req");
+        System.out.println("---------------------------------------------------------------------");
+        System.out.printf("| %-20s | %9d ms | %12.1f |\n", result.label(), result.totalElapsedMs(), result.nsPerRequest());
+        System.out.println("=====================================================================");
+    }
+
+    // 변경 전 validateAccessToken + getUserIdFromAccess 흐름
+    private static class LegacyJwtProvider extends JwtProvider {
+        private final SecretKey key;
+
+        LegacyJwtProvider(UserFinder userFinder, JwtProperties props) {
+            super(userFinder, props, new VerifiedTokenCache(0));
+            this.key = Keys.hmacShaKeyFor(props.access().secret().getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public Optional<VerifiedToken> verifyAccessToken(String token) {
+            Claims validated = legacyParse(token);
+            if (!"access".equals(validated.get("typ", String.class))) {
+                return Optional.empty();
+            }
+            Claims claims = legacyParse(token);
+            return Optional.of(new VerifiedToken(Long.valueOf(claims.getSubject()), "access", claims.getExpiration().toInstant()));
+        }
+
+        private Claims legacyParse(String token) {
+            return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+        }
+    }
+
+    private record Result(String label, long totalElapsedMs, double nsPerRequest) { }
+}
@@ -0,0 +1,82 @@
+package org.restapi.springrestapi.benchmark;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.restapi.springrestapi.dto.post.PostResult;
+import org.restapi.springrestapi.model.Post;
+import org.restapi.springrestapi.model.PostLike;
+import org.restapi.springrestapi.model.User;
+import org.restapi.springrestapi.repository.PostLikeRepository;
+import org.restapi.springrestapi.repository.PostRepository;
+import org.restapi.springrestapi.repository.UserRepository;
+import org.restapi.springrestapi.support.fixture.UserFixture;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    게시글 상세 조회 1회당 실행되는 SQL 수 비교.
+    - 기존: findById -> 작성자 지연 로딩 -> 좋아요 여부 exists -> 조회수 update(flush/clear 포함)
+    - 변경: 게시글 + 작성자 + 좋아요 여부 단일 쿼리. 조회수 증가는 PostViewCountBuffer 가 모아서 주기적으로 반영한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PostDetailReadBenchmarkTest extends AbstractFetchStrategyBenchmarkTest {
+
+    @Autowired PostRepository postRepository;
+    @Autowired PostLikeRepository postLikeRepository;
+    @Autowired UserRepository userRepository;
+
+    Long postId;
+    Long readerId;
+
+    @BeforeEach
+    void setUp() {
+        postLikeRepository.deleteAll();
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User author = userRepository.save(UserFixture.uniqueUser("detail-author"));
+        User reader = userRepository.save(UserFixture.uniqueUser("detail-reader"));
+        Post post = Post.builder()
+            .title("상세 벤치마크")
+            .content("본문")
+            .likeCount(1)
+            .commentCount(0)
+            .viewCount(0)
+            .build();
+        post.changeAuthor(author);
+        postRepository.save(post);
+        postLikeRepository.save(new PostLike(reader, post));
+
+        postId = post.getId();
+        readerId = reader.getId();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("상세 조회: 엔티티 조회 + 개별 쿼리와 단일 Projection 쿼리의 SQL 수 비교")
+    void compareDetailReadPaths() {
+        List<BenchmarkResult> results = runStrategies(List.of(
+            new BenchmarkStrategy("Entity + exists", () -> {
+                Post post = postRepository.findById(postId).orElseThrow();
+                boolean didLike = postLikeRepository.existsByUserIdAndPostId(readerId, postId);
+                PostResult.from(post, didLike);
+                postRepository.incrementViewCount(postId);
+            }),
+            new BenchmarkStrategy("Detail Projection", () -> PostResult.from(
+                postRepository.findDetailById(postId, readerId).orElseThrow()))
+        ));
+        results.forEach(this::printResult);
+
+        assertThat(results.get(1).averageSqlCount()).isEqualTo(1.0);
+        assertThat(results.get(1).averageSqlCount()).isLessThan(results.get(0).averageSqlCount());
+    }
+}
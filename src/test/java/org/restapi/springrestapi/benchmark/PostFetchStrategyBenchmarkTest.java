@@ -4,9 +4,11 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.IntUnaryOperator;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.restapi.springrestapi.dto.post.PostResult;
 import org.restapi.springrestapi.dto.post.PostSummaryProjection;
 import org.restapi.springrestapi.model.Post;
 import org.restapi.springrestapi.model.User;
@@ -19,6 +21,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 @DataJpaTest
 @ActiveProfiles("test")
 @TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
@@ -93,6 +97,32 @@ class PostFetchStrategyBenchmarkTest extends AbstractFetchStrategyBenchmarkTest
          */
     }
 
+    @Test
+    @DisplayName("피드 조회 경로: Fetch Join 엔티티 매핑과 keyset DTO Projection 비교")
+    void compareFeedReadPaths() {
+        seedPosts(authorCount -> authorCount);
+        final long cursor = postRepository.findFeedSlice(PageRequest.of(0, PAGE_SIZE / 2))
+            .getContent()
+            .get(PAGE_SIZE / 2 - 1)
+            .postId();
+
+        runStrategies(List.of(
+            new BenchmarkStrategy("Fetch Join -> DTO", () -> postRepository.findSliceWithFetchJoin(PageRequest.of(0, PAGE_SIZE))
+                .forEach(post -> PostResult.from(post, false))),
+            new BenchmarkStrategy("Feed Projection", () -> postRepository.findFeedSlice(PageRequest.of(0, PAGE_SIZE))
+                .map(projection -> PostResult.from(projection, false))
+                .getContent()),
+            new BenchmarkStrategy("Feed Projection(cur)", () -> postRepository.findFeedSlice(cursor, PageRequest.of(0, PAGE_SIZE))
+                .map(projection -> PostResult.from(projection, false))
+                .getContent())
+        )).forEach(this::printResult);
+
+        // Projection 경로는 엔티티를 하나도 영속화하지 않는다.
+        entityManager.clear();
+        postRepository.findFeedSlice(PageRequest.of(0, PAGE_SIZE)).getContent();
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
     private void seedPosts(IntUnaryOperator authorCountSupplier) {
         List<User> authors = new ArrayList<>();
         final int totalAuthors = authorCountSupplier.applyAsInt(PAGE_SIZE);
@@ -0,0 +1,141 @@
+package org.restapi.springrestapi.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.restapi.springrestapi.dto.post.PatchPostLikeResult;
+import org.restapi.springrestapi.model.Post;
+import org.restapi.springrestapi.model.User;
+import org.restapi.springrestapi.repository.PostLikeRepository;
+import org.restapi.springrestapi.repository.PostRepository;
+import org.restapi.springrestapi.repository.UserRepository;
+import org.restapi.springrestapi.service.post.PostLikeCountAggregator;
+import org.restapi.springrestapi.service.post.PostLikeService;
+import org.restapi.springrestapi.support.fixture.UserFixture;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    여러 스레드가 같은 게시글에 동시에 좋아요를 토글할 때의 처리량과 정합성 확인 (H2, MySQL 모드).
+    - 스레드마다 별도 트랜잭션이 필요하므로 테스트 트랜잭션 없이 실행하고, 만든 데이터는 직접 지운다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PostLikeToggleConcurrencyBenchmarkTest {
+
+    private static final int USERS = 32;
+    private static final int THREADS = 8;
+
+    @Autowired PostLikeService postLikeService;
+    @Autowired PostLikeCountAggregator postLikeCountAggregator;
+    @Autowired PostRepository postRepository;
+    @Autowired PostLikeRepository postLikeRepository;
+    @Autowired UserRepository userRepository;
+
+    List<User> users = new ArrayList<>();
+    Post post;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < USERS; i++) {
+            users.add(userRepository.save(UserFixture.uniqueUser("like-" + i)));
+        }
+        Post newPost = Post.builder()
+            .title("좋아요 동시성")
+            .content("본문")
+            .build();
+        newPost.changeAuthor(users.get(0));
+        post = postRepository.save(newPost);
+    }
+
+    @AfterEach
+    void tearDown() {
+        postLikeRepository.deleteAll();
+        postRepository.deleteById(post.getId());
+        userRepository.deleteAll(users);
+    }
+
+    @Test
+    @DisplayName("사용자마다 동시에 좋아요를 누르고 취소해도 좋아요 수와 좋아요 행 수가 일치한다")
+    void toggleConcurrently_keepsCountConsistent() throws Exception {
+        long likeNs = runConcurrently(users.stream()
+            .map(user -> (Callable<PatchPostLikeResult>) () -> postLikeService.togglePostLike(user.getId(), post.getId()))
+            .toList());
+        assertThat(likeCount()).isEqualTo(USERS);
+        assertThat(postLikeRepository.count()).isEqualTo(USERS);
+
+        long unlikeNs = runConcurrently(users.stream()
+            .map(user -> (Callable<PatchPostLikeResult>) () -> postLikeService.togglePostLike(user.getId(), post.getId()))
+            .toList());
+        assertThat(likeCount()).isZero();
+        assertThat(postLikeRepository.count()).isZero();
+
+        print("Like", likeNs);
+        print("Unlike", unlikeNs);
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 중복 클릭이 겹쳐도 500 없이 한 번만 반영된다")
+    void duplicateClicks_doNotViolateUniqueConstraint() throws Exception {
+        User user = users.get(1);
+        List<Callable<PatchPostLikeResult>> clicks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            clicks.add(() -> postLikeService.togglePostLike(user.getId(), post.getId()));
+        }
+
+        runConcurrently(clicks);
+
+        // 몇 번이 겹쳤든 최종 좋아요 수는 실제 좋아요 행 수와 같다.
+        assertThat((long) likeCount()).isEqualTo(postLikeRepository.count());
+        assertThat(postLikeRepository.count()).isLessThanOrEqualTo(1);
+    }
+
+    private long runConcurrently(List<Callable<PatchPostLikeResult>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<PatchPostLikeResult>> futures = new ArrayList<>();
+        for (Callable<PatchPostLikeResult> task : tasks) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<PatchPostLikeResult> future : futures) {
+            future.get(10, TimeUnit.SECONDS); // 예외(유니크 제약 위반 등)가 있으면 여기서 실패한다.
+        }
+        long elapsedNs = System.nanoTime() - begin;
+        executor.shutdown();
+        return elapsedNs;
+    }
+
+    // 집계 모드로 전환된 경우 메모리에 남은 증감분을 반영한 뒤 DB 값을 읽는다.
+    private int likeCount() {
+        postLikeCountAggregator.reconcile();
+        return postRepository.findLikeCountById(post.getId()).orElseThrow();
+    }
+
+    private void print(String label, long elapsedNs) {
+        System.out.println("=====================================================================");
+        System.out.printf("| %-20s | %12s | %12s | %12s |\n", "Phase", "Total Time", "Toggles", "Toggles/s");
+        System.out.println("---------------------------------------------------------------------");
+        System.out.printf("| %-20s | %9d ms | %12d | %12.1f |\n",
+            label, TimeUnit.NANOSECONDS.toMillis(elapsedNs), USERS, USERS / (elapsedNs / 1_000_000_000.0));
+        System.out.println("=====================================================================");
+    }
+}
@@ -0,0 +1,95 @@
+package org.restapi.springrestapi.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.restapi.springrestapi.service.post.LocalPostViewDebounce;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.DigestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    조회수 중복 방지 저장소 비교.
+    - Legacy: 문자열 키 ConcurrentHashMap<String, Long> (만료/상한 없음)
+    - Timing Wheel: long fingerprint + hashed timing wheel + 메모리 상한
+    서로 다른 방문자 VISITORS 명이 게시글 POSTS 개를 한 번씩 조회할 때의 소요 시간과 남아있는 항목 수를 비교한다.
+ */
+class PostViewDebounceBenchmarkTest {
+
+    private static final int POSTS = 100;
+    private static final int VISITORS = 2_000;
+    private static final int MAX_ENTRIES = 50_000;
+
+    @Test
+    @DisplayName("문자열 키 HashMap과 timing wheel 기반 저장소의 처리 시간 및 보유 항목 수 비교")
+    void compareDebounceStores() {
+        MockHttpServletRequest[] requests = new MockHttpServletRequest[VISITORS];
+        for (int i = 0; i < VISITORS; i++) {
+            requests[i] = new MockHttpServletRequest();
+            requests[i].setRemoteAddr("10.0." + (i / 256) + "." + (i % 256));
+            requests[i].addHeader("User-Agent", "bench-agent");
+        }
+
+        LegacyDebounce legacy = new LegacyDebounce();
+        long legacyNs = measure(() -> {
+            for (long postId = 1; postId <= POSTS; postId++) {
+                for (MockHttpServletRequest request : requests) {
+                    legacy.seenRecently(request, postId);
+                }
+            }
+        });
+
+        LocalPostViewDebounce wheel = new LocalPostViewDebounce(Duration.ofSeconds(10), MAX_ENTRIES);
+        long wheelNs = measure(() -> {
+            for (long postId = 1; postId <= POSTS; postId++) {
+                for (MockHttpServletRequest request : requests) {
+                    wheel.seenRecently(request, null, postId);
+                }
+            }
+        });
+
+        print("Legacy HashMap", legacyNs, legacy.seen.size(), 0);
+        print("Timing Wheel", wheelNs, wheel.size(), wheel.getEvictionCount());
+
+        assertThat(legacy.seen).hasSize(POSTS * VISITORS);
+        assertThat(wheel.size()).isLessThanOrEqualTo(MAX_ENTRIES);
+    }
+
+    private long measure(Runnable action) {
+        long start = System.nanoTime();
+        action.run();
+        return System.nanoTime() - start;
+    }
+
+    private void print(String label, long elapsedNs, long entries, long evictions) {
+        System.out.println("=====================================================================");
+        System.out.printf("| %-20s | %12s | %12s | %12s |\n", "Store", "Total Time", "Entries", "Evictions");
+        System.out.println("---------------------------------------------------------------------");
+        System.out.printf("| %-20s | %9d ms | %12d | %12d |\n",
+            label, TimeUnit.NANOSECONDS.toMillis(elapsedNs), entries, evictions);
+        System.out.println("=====================================================================");
+    }
+
+    // 변경 전 LocalPostViewDebounce 구현
+    private static class LegacyDebounce {
+        private final Map<String, Long> seen = new ConcurrentHashMap<>();
+
+        boolean seenRecently(MockHttpServletRequest request, Long postId) {
+            String raw = request.getRemoteAddr() + "|" + request.getHeader("User-Agent");
+            String key = "post:view:seen:" + postId + ":" + "anon:" + DigestUtils.md5DigestAsHex(raw.getBytes(StandardCharsets.UTF_8));
+            long now = System.currentTimeMillis();
+            Long lastSeen = seen.get(key);
+            if (lastSeen != null && now - lastSeen < 10_000) {
+                return true;
+            }
+            seen.put(key, now);
+            return false;
+        }
+    }
+}
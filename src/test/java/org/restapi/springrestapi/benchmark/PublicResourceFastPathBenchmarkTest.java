@@ -0,0 +1,120 @@
+package org.restapi.springrestapi.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.restapi.springrestapi.security.jwt.JwtProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*
+    로그인 사용자가 /upload/** 이미지를 반복 요청할 때의 처리량 비교.
+    - Fast Path: 공개 리소스 전용 체인 (JWT 필터, CSRF 쿠키 처리 없음)
+    - Full Chain: app.security.public-fast-path.enabled=false, 모든 요청이 API 체인을 거친다
+    각 설정은 별도의 스프링 컨텍스트로 띄운다.
+ */
+class PublicResourceFastPathBenchmarkTest {
+
+    private static final String IMAGE_NAME = "fast-path-bench.png";
+    private static final int WARMUP = 500;
+    private static final int REPEAT = 5_000;
+
+    @Nested
+    @SpringBootTest
+    @AutoConfigureMockMvc
+    @ActiveProfiles("test")
+    class FastPath extends ImageThroughput {
+
+        @Test
+        @DisplayName("공개 리소스 체인: 이미지 요청 처리량과 잘못된 토큰 무시 여부")
+        void measure() throws Exception {
+            print("Fast Path", run());
+
+            // JWT 를 보지 않으므로 잘못된 토큰이 있어도 그대로 응답한다.
+            mockMvc.perform(get("/hc").header("Authorization", "Bearer invalid"))
+                .andExpect(status().isOk());
+        }
+    }
+
+    @Nested
+    @SpringBootTest
+    @AutoConfigureMockMvc
+    @ActiveProfiles("test")
+    @TestPropertySource(properties = "app.security.public-fast-path.enabled=false")
+    class FullChain extends ImageThroughput {
+
+        @Test
+        @DisplayName("전체 API 체인: 이미지 요청 처리량과 잘못된 토큰 거부 여부")
+        void measure() throws Exception {
+            print("Full Chain", run());
+
+            mockMvc.perform(get("/hc").header("Authorization", "Bearer invalid"))
+                .andExpect(status().isUnauthorized());
+        }
+    }
+
+    abstract static class ImageThroughput {
+        @Autowired MockMvc mockMvc;
+        @Autowired JwtProvider jwtProvider;
+
+        @Value("${app.upload.base-dir}")
+        String baseDir;
+
+        Path image;
+        String bearer;
+
+        @BeforeEach
+        void setUp() throws IOException {
+            Path dir = Paths.get(baseDir).toAbsolutePath();
+            Files.createDirectories(dir);
+            image = Files.write(dir.resolve(IMAGE_NAME), new byte[4 * 1024]);
+            bearer = "Bearer " + jwtProvider.createAccessToken(1L);
+        }
+
+        @AfterEach
+        void tearDown() throws IOException {
+            Files.deleteIfExists(image);
+        }
+
+        long run() throws Exception {
+            for (int i = 0; i < WARMUP; i++) {
+                fetchImage();
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < REPEAT; i++) {
+                fetchImage();
+            }
+            return System.nanoTime() - start;
+        }
+
+        private void fetchImage() throws Exception {
+            mockMvc.perform(get("/upload/" + IMAGE_NAME).header("Authorization", bearer))
+                .andExpect(status().isOk());
+        }
+
+        void print(String label, long elapsedNs) {
+            System.out.println("=====================================================================");
+            System.out.printf("| %-20s | %12s | %12s |\n", "Strategy Name", "Total Time", "Req/Sec");
+            System.out.println("---------------------------------------------------------------------");
+            System.out.printf("| %-20s | %9d ms | %12.0f |\n", label, TimeUnit.NANOSECONDS.toMillis(elapsedNs),
+                REPEAT / (elapsedNs / 1_000_000_000.0));
+            System.out.println("=====================================================================");
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package org.restapi.springrestapi.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    /upload/** 이미지 동시 요청 처리량 비교 (실제 Tomcat, 512KB 이미지)
+    - Full GET: 매번 본문 전체를 받는다. (sendfile 대상 크기)
+    - Revalidate: If-None-Match 로 재검증해 304 만 받는다.
+    immutable 캐시 헤더를 받은 브라우저는 max-age 동안 요청 자체를 보내지 않으므로 실제 절감은 더 크다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class UploadResourceServingBenchmarkTest {
+
+    private static final String IMAGE_NAME = "serving-bench.png";
+    private static final int FILE_SIZE = 512 * 1024;
+    private static final int CLIENTS = 32;
+    private static final int REQUESTS_PER_CLIENT = 50;
+
+    @LocalServerPort int port;
+
+    @Value("${app.upload.base-dir}")
+    String baseDir;
+
+    Path image;
+    HttpClient httpClient;
+    ExecutorService clients;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path dir = Paths.get(baseDir).toAbsolutePath();
+        Files.createDirectories(dir);
+        byte[] content = new byte[FILE_SIZE];
+        ThreadLocalRandom.current().nextBytes(content);
+        image = Files.write(dir.resolve(IMAGE_NAME), content);
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        clients = Executors.newFixedThreadPool(CLIENTS);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        clients.shutdownNow();
+        Files.deleteIfExists(image);
+    }
+
+    @Test
+    @DisplayName("업로드 이미지: 캐시 헤더, Range 응답과 전체 요청/재검증 처리량 비교")
+    void measure() throws Exception {
+        URI uri = URI.create("http://localhost:" + port + "/upload/" + IMAGE_NAME);
+
+        HttpResponse<byte[]> full = httpClient.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(full.statusCode()).isEqualTo(200);
+        assertThat(full.body()).hasSize(FILE_SIZE);
+        assertThat(full.headers().firstValue("Cache-Control")).hasValueSatisfying(value ->
+            assertThat(value).contains("immutable").contains("public"));
+        String etag = full.headers().firstValue("ETag").orElseThrow();
+
+        HttpResponse<byte[]> range = httpClient.send(HttpRequest.newBuilder(uri).header("Range", "bytes=0-99").build(),
+            HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(range.statusCode()).isEqualTo(206);
+        assertThat(range.body()).hasSize(100);
+
+        HttpRequest fullRequest = HttpRequest.newBuilder(uri).build();
+        HttpRequest revalidate = HttpRequest.newBuilder(uri).header("If-None-Match", etag).build();
+
+        long fullNs = run(fullRequest, 200);
+        long revalidateNs = run(revalidate, 304);
+
+        System.out.println("=====================================================================");
+        System.out.printf("| %-20s | %12s | %12s |\n", "Strategy Name", "Total Time", "Req/Sec");
+        System.out.println("---------------------------------------------------------------------");
+        print("Full GET", fullNs);
+        print("Revalidate (304)", revalidateNs);
+        System.out.println("=====================================================================");
+    }
+
+    private long run(HttpRequest request, int expectedStatus) throws Exception {
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int c = 0; c < CLIENTS; c++) {
+            futures.add(clients.submit(() -> {
+                for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                    HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                    assertThat(response.statusCode()).isEqualTo(expectedStatus);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private void print(String label, long elapsedNs) {
+        System.out.printf("| %-20s | %9d ms | %12.0f |\n", label, TimeUnit.NANOSECONDS.toMillis(elapsedNs),
+            CLIENTS * REQUESTS_PER_CLIENT / (elapsedNs / 1_000_000_000.0));
+    }
+}
@@ -0,0 +1,88 @@
+package org.restapi.springrestapi.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.restapi.springrestapi.service.post.UserKeyGenerator;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.DigestUtils;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    비로그인 방문자 식별값 생성 비교.
+    - MD5: 변경 전 UserKeyGenerator.generate (split + 문자열 결합 + byte[] + MD5 hex)
+    - Fingerprint: 헤더 문자를 직접 순회하는 64bit 해시
+    호출 1회당 할당 바이트는 현재 스레드의 누적 할당량(com.sun.management.ThreadMXBean)으로 측정한다.
+ */
+class UserKeyFingerprintBenchmarkTest {
+
+    private static final int WARMUP = 50_000;
+    private static final int REPEAT = 200_000;
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    @DisplayName("MD5 문자열 키와 64bit fingerprint 의 호출당 할당량 및 소요 시간 비교")
+    void compareAllocationsPerCall() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
+        request.addHeader("X-Forwarded-For", "203.0.113.7, 10.0.0.2, 10.0.0.3");
+        request.addHeader("User-Agent", "Mozilla/5.0 (Macintosh; Intel Mac OS X 14_0) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0 Safari/537.36");
+
+        Result md5 = measure("MD5 String", () -> legacyGenerate(request).length());
+        Result fingerprint = measure("Fingerprint", () -> UserKeyGenerator.fingerprint(request, null));
+
+        print(md5);
+        print(fingerprint);
+
+        assertThat(fingerprint.bytesPerCall()).isLessThan(md5.bytesPerCall());
+    }
+
+    private Result measure(String label, java.util.function.LongSupplier action) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += action.getAsLong();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < REPEAT; i++) {
+            sink += action.getAsLong();
+        }
+        long elapsedNs = System.nanoTime() - start;
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        if (sink == 42) { // JIT 가 호출을 제거하지 못하도록 결과를 사용한다.
+            System.out.println(sink);
+        }
+        return new Result(label, TimeUnit.NANOSECONDS.toMillis(elapsedNs), allocated / (double) REPEAT);
+    }
+
+    private void print(Result result) {
+        System.out.println("=====================================================================");
+        System.out.printf("| %-20s | %12s | %12s |\n", "Strategy Name", "Total Time", "Bytes/Call");
+        System.out.println("---------------------------------------------------------------------");
+        System.out.printf("| %-20s | %9d ms | %12.1f |\n", result.label(), result.totalElapsedMs(), result.bytesPerCall());
+        System.out.println("=====================================================================");
+    }
+
+    // 변경 전 UserKeyGenerator.generate 구현
+    private static String legacyGenerate(HttpServletRequest request) {
+        String xff = request.getHeader("X-Forwarded-For");
+        String ip = (xff != null && !xff.isBlank()) ? xff.split(",")[0].trim() : request.getRemoteAddr();
+        String ua = request.getHeader("User-Agent");
+        String raw = (ip == null ? "" : ip) + "|" + (ua == null ? "" : ua);
+
+        return "anon:" + DigestUtils.md5DigestAsHex(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private record Result(String label, long totalElapsedMs, double bytesPerCall) { }
+}
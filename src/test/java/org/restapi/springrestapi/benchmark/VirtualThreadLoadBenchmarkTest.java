@@ -0,0 +1,180 @@
+package org.restapi.springrestapi.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.restapi.springrestapi.model.Post;
+import org.restapi.springrestapi.model.User;
+import org.restapi.springrestapi.repository.PostRepository;
+import org.restapi.springrestapi.repository.UserRepository;
+import org.restapi.springrestapi.support.fixture.UserFixture;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    동시 접속이 많을 때 게시글 상세 조회(GET /posts/{id}, JDBC 조회 포함)의 처리량과 p99 지연 비교.
+    - Platform: 기본 Tomcat 스레드 풀 (threads.max=64)
+    - Virtual: virtual-threads 프로필, 요청마다 virtual thread
+    두 설정 모두 Hikari 풀은 20 개로 같다.
+    virtual thread 는 Java 21 부터 동작하므로 ./gradlew test -PjavaVersion=21 로 실행할 때만 돈다.
+    테스트 DB 는 메모리 H2 라 쿼리 대기 시간이 거의 없다. 실제 MySQL 에서는 차이가 더 크게 나타난다.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadLoadBenchmarkTest {
+
+    private static final int CONCURRENCY = 256;
+    private static final int WARMUP_PER_CLIENT = 5;
+    private static final int REQUESTS_PER_CLIENT = 40;
+
+    @Nested
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+    @ActiveProfiles("test")
+    @TestPropertySource(properties = {
+        "server.tomcat.threads.max=64",
+        "spring.datasource.hikari.maximum-pool-size=20",
+        "spring.jpa.show-sql=false"
+    })
+    class PlatformThreads extends LoadScenario {
+
+        @Test
+        @DisplayName("플랫폼 스레드: 동시 요청 처리량과 p99 지연")
+        void measure() throws Exception {
+            print("Platform (64)", run());
+        }
+    }
+
+    @Nested
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+    @ActiveProfiles({"test", "virtual-threads"})
+    @TestPropertySource(properties = {
+        "server.tomcat.threads.max=64",
+        "spring.jpa.show-sql=false"
+    })
+    class VirtualThreads extends LoadScenario {
+
+        @Test
+        @DisplayName("virtual thread: 동시 요청 처리량과 p99 지연")
+        void measure() throws Exception {
+            print("Virtual", run());
+        }
+    }
+
+    abstract static class LoadScenario {
+        @LocalServerPort int port;
+        @Autowired UserRepository userRepository;
+        @Autowired PostRepository postRepository;
+
+        ExecutorService clients;
+        HttpClient httpClient;
+        URI uri;
+
+        @BeforeEach
+        void setUp() {
+            User author = userRepository.save(UserFixture.uniqueUser("load-author"));
+            Post post = Post.builder()
+                .title("부하 테스트")
+                .content("본문")
+                .likeCount(0)
+                .commentCount(0)
+                .viewCount(0)
+                .build();
+            post.changeAuthor(author);
+            postRepository.save(post);
+
+            clients = Executors.newFixedThreadPool(CONCURRENCY);
+            httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+            uri = URI.create("http://localhost:" + port + "/posts/" + post.getId());
+        }
+
+        @AfterEach
+        void tearDown() {
+            clients.shutdownNow();
+        }
+
+        LoadResult run() throws Exception {
+            load(WARMUP_PER_CLIENT);
+            return load(REQUESTS_PER_CLIENT);
+        }
+
+        private LoadResult load(int requestsPerClient) throws Exception {
+            long[] latencies = new long[CONCURRENCY * requestsPerClient];
+            AtomicInteger failures = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(CONCURRENCY);
+            HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+
+            for (int c = 0; c < CONCURRENCY; c++) {
+                final int offset = c * requestsPerClient;
+                clients.execute(() -> {
+                    try {
+                        start.await();
+                        for (int i = 0; i < requestsPerClient; i++) {
+                            long begin = System.nanoTime();
+                            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                            latencies[offset + i] = System.nanoTime() - begin;
+                            if (response.statusCode() != 200) {
+                                failures.incrementAndGet();
+                            }
+                        }
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+
+            long begin = System.nanoTime();
+            start.countDown();
+            assertThat(done.await(2, TimeUnit.MINUTES)).isTrue();
+            long elapsed = System.nanoTime() - begin;
+
+            assertThat(failures.get()).isZero();
+            return new LoadResult(elapsed, latencies);
+        }
+
+        void print(String label, LoadResult result) {
+            System.out.println("=====================================================================");
+            System.out.printf("| %-20s | %12s | %12s | %12s |\n", "Strategy Name", "Total Time", "Req/Sec", "p99");
+            System.out.println("---------------------------------------------------------------------");
+            System.out.printf("| %-20s | %9d ms | %12.0f | %9.2f ms |\n", label,
+                TimeUnit.NANOSECONDS.toMillis(result.elapsedNanos()),
+                result.throughput(), result.p99Nanos() / 1_000_000.0);
+            System.out.println("=====================================================================");
+        }
+    }
+
+    record LoadResult(long elapsedNanos, long[] latencies) {
+        double throughput() {
+            return latencies.length / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        long p99Nanos() {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            return sorted[(int) Math.ceil(sorted.length * 0.99) - 1];
+        }
+    }
+}
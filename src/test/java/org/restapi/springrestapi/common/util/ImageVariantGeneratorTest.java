@@ -0,0 +1,72 @@
+package org.restapi.springrestapi.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ImageVariantGeneratorTest {
+
+    static final String HASH = "ab".repeat(32);
+
+    @TempDir
+    Path dir;
+
+    ImageVariantGenerator generator = new ImageVariantGenerator(1, 4);
+
+    @AfterEach
+    void tearDown() {
+        generator.close();
+    }
+
+    @Test
+    @DisplayName("원본 비율을 유지한 채 긴 변이 각 크기에 맞는 축소본을 만든다")
+    void generate_writesDownscaledVariants() throws IOException {
+        Path original = dir.resolve(HASH + ".png");
+        ImageIO.write(new BufferedImage(1000, 500, BufferedImage.TYPE_INT_ARGB), "png", original.toFile());
+
+        generator.generate(original);
+
+        BufferedImage avatar = ImageIO.read(dir.resolve(HASH + "_64.png").toFile());
+        BufferedImage preview = ImageIO.read(dir.resolve(HASH + "_480.png").toFile());
+        assertThat(avatar.getWidth()).isEqualTo(64);
+        assertThat(avatar.getHeight()).isEqualTo(32);
+        assertThat(preview.getWidth()).isEqualTo(480);
+        assertThat(preview.getHeight()).isEqualTo(240);
+        assertThat(generator.getGeneratedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("원본이 축소본보다 작으면 확대하지 않고 원본을 축소본 이름으로 연결한다")
+    void generate_linksOriginalWhenSmallerThanVariant() throws IOException {
+        Path original = dir.resolve(HASH + ".jpg");
+        ImageIO.write(new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB), "jpg", original.toFile());
+
+        generator.generate(original);
+
+        assertThat(ImageIO.read(dir.resolve(HASH + "_64.jpg").toFile()).getWidth()).isEqualTo(64);
+        assertThat(Files.readAllBytes(dir.resolve(HASH + "_480.jpg"))).isEqualTo(Files.readAllBytes(original));
+        assertThat(generator.getGeneratedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장한 이미지 URL 은 축소본 URL 로 바꾸고, 그 외 URL 은 그대로 둔다")
+    void urlOf_mapsOnlyStoredImages() {
+        String url = "http://localhost/upload/images/ab/" + HASH + ".jpg";
+
+        assertThat(ImageVariant.AVATAR.urlOf(url)).isEqualTo("http://localhost/upload/images/ab/" + HASH + "_64.jpg");
+        assertThat(ImageVariant.AVATAR.urlOf("http://img")).isEqualTo("http://img");
+        assertThat(ImageVariant.PREVIEW.urlOf(null)).isNull();
+        assertThat(ImageVariant.originalPathOf("images/ab/" + HASH + "_480.jpg")).isEqualTo("images/ab/" + HASH + ".jpg");
+        assertThat(ImageVariant.originalPathOf("images/ab/" + HASH + ".jpg")).isNull();
+    }
+}
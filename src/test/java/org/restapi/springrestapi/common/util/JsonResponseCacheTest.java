@@ -0,0 +1,101 @@
+package org.restapi.springrestapi.common.util;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.restapi.springrestapi.common.APIResponse;
+import org.restapi.springrestapi.exception.code.SuccessCode;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonResponseCacheTest {
+
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+        .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+        .build();
+
+    JsonResponseCache cache = new JsonResponseCache(objectMapper, 2, DataSize.ofBytes(64));
+
+    @Test
+    @DisplayName("같은 키는 한 번만 직렬화하고, 저장된 바이트는 ObjectMapper 결과와 같다")
+    void getOrSerialize_serializesOncePerKey() throws Exception {
+        Item item = new Item(1L, "title");
+        int[] calls = new int[1];
+
+        JsonResponseCache.Body first = cache.getOrSerialize(item, () -> {
+            calls[0]++;
+            return APIResponse.ok(SuccessCode.GET_SUCCESS, item);
+        });
+        JsonResponseCache.Body second = cache.getOrSerialize(new Item(1L, "title"), () -> {
+            calls[0]++;
+            return APIResponse.ok(SuccessCode.GET_SUCCESS, item);
+        });
+
+        assertThat(calls[0]).isEqualTo(1);
+        assertThat(second).isSameAs(first);
+        assertThat(first.json()).isEqualTo(objectMapper.writeValueAsBytes(APIResponse.ok(SuccessCode.GET_SUCCESS, item)));
+        assertThat(new String(first.json())).contains("\"item_title\":\"title\"");
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 사용하지 않은 항목을 버린다")
+    void getOrSerialize_evictsLeastRecentlyUsed() {
+        cache.getOrSerialize("a", () -> "a");
+        cache.getOrSerialize("b", () -> "b");
+        cache.getOrSerialize("a", () -> "a");
+        cache.getOrSerialize("c", () -> "c");
+
+        cache.getOrSerialize("a", () -> "a");
+        cache.getOrSerialize("b", () -> "b");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getMissCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("gzip 을 허용하는 요청에는 압축된 바이트를, 작은 응답이나 허용하지 않는 요청에는 원본을 보낸다")
+    void respond_negotiatesContentEncoding() throws Exception {
+        List<Item> items = List.of(new Item(1L, "a".repeat(200)), new Item(2L, "b".repeat(200)));
+
+        ResponseEntity<byte[]> gzipped = cache.respond(ResponseEntity.ok(), "gzip;q=1.0, identity", "big", () -> items);
+        ResponseEntity<byte[]> plain = cache.respond(ResponseEntity.ok(), "gzip;q=0", "big", () -> items);
+        ResponseEntity<byte[]> small = cache.respond(ResponseEntity.ok(), "gzip", "small", () -> "x");
+
+        assertThat(gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzipped.getHeaders().getVary()).contains(HttpHeaders.ACCEPT_ENCODING);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getBody()))) {
+            assertThat(in.readAllBytes()).isEqualTo(plain.getBody());
+        }
+        assertThat(plain.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+        assertThat(small.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding 은 gzip 또는 * 가 q=0 이 아닐 때만 허용으로 본다")
+    void acceptsGzip() {
+        assertThat(JsonResponseCache.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(JsonResponseCache.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+        assertThat(JsonResponseCache.acceptsGzip("*")).isTrue();
+        assertThat(JsonResponseCache.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(JsonResponseCache.acceptsGzip("gzip; q=0.0")).isFalse();
+        assertThat(JsonResponseCache.acceptsGzip("gzip;q=abc")).isFalse();
+        assertThat(JsonResponseCache.acceptsGzip("deflate, br")).isFalse();
+        assertThat(JsonResponseCache.acceptsGzip(null)).isFalse();
+    }
+
+    record Item(Long id, String itemTitle) {
+    }
+}
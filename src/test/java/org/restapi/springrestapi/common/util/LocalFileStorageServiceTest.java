@@ -4,9 +4,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.restapi.springrestapi.exception.AppException;
 import org.restapi.springrestapi.exception.code.CommonErrorCode;
 import org.restapi.springrestapi.exception.code.UploadErrorCode;
+import org.restapi.springrestapi.model.StoredImage;
+import org.restapi.springrestapi.repository.StoredImageRepository;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -16,17 +19,27 @@ import java.nio.file.Path;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 class LocalFileStorageServiceTest {
 
     LocalFileStorageService service;
+    StoredImageRepository storedImageRepository = mock(StoredImageRepository.class);
+    ImageVariantGenerator imageVariantGenerator = mock(ImageVariantGenerator.class);
 
     @TempDir
     Path baseDir;
 
     @BeforeEach
     void setUp() {
-        service = new LocalFileStorageService();
+        service = new LocalFileStorageService(storedImageRepository, imageVariantGenerator);
         ReflectionTestUtils.setField(service, "baseDir", baseDir.toString());
         ReflectionTestUtils.setField(service, "publicBaseUrl", "http://localhost/files");
     }
@@ -35,7 +48,7 @@ class LocalFileStorageServiceTest {
     @DisplayName("프로필 이미지를 저장하면 베이스 디렉터리에 파일이 생성되고 퍼블릭 URL을 반환한다")
     void saveProfileImage_createsFile() throws IOException {
         // given
-        byte[] content = "fake image".getBytes();
+        byte[] content = jpeg("fake image");
         MockMultipartFile file =
                 new MockMultipartFile("file", "image.jpg", "image/jpeg", content);
 
@@ -43,13 +56,50 @@ class LocalFileStorageServiceTest {
         String url = service.saveProfileImage(file);
 
         // then
-        assertThat(url).startsWith("http://localhost/files/profile/");
+        assertThat(url).startsWith("http://localhost/files/images/").endsWith(".jpg");
         String relative = url.replace("http://localhost/files/", "");
         Path savedPath = baseDir.resolve(relative);
         assertThat(Files.exists(savedPath)).isTrue();
         assertThat(Files.readAllBytes(savedPath)).isEqualTo(content);
     }
 
+    @Test
+    @DisplayName("같은 내용을 다시 올리면 새로 쓰지 않고 같은 URL 을 반환하며, 업로드만으로는 참조 수를 늘리지 않는다")
+    void saveImage_sameContent_reusesStoredFile() throws IOException {
+        // given
+        byte[] content = jpeg("same image");
+        given(storedImageRepository.existsBySha256(anyString())).willReturn(false, true);
+
+        // when
+        String first = service.saveProfileImage(new MockMultipartFile("file", "a.jpg", "image/jpeg", content));
+        String second = service.savePostImage(new MockMultipartFile("file", "b.jpeg", "image/jpeg", content));
+
+        // then
+        assertThat(second).isEqualTo(first);
+        ArgumentCaptor<StoredImage> saved = ArgumentCaptor.forClass(StoredImage.class);
+        verify(storedImageRepository, times(1)).save(saved.capture());
+        assertThat(saved.getValue().getRefCount()).isZero();
+        verify(storedImageRepository, never()).increaseRefCount(anyString());
+        try (var files = Files.walk(baseDir)) {
+            assertThat(files.filter(Files::isRegularFile).count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("발급한 URL 을 연결/해제하면 해당 경로의 참조 수를 늘리고 줄이며, 외부 URL 은 무시한다")
+    void retainAndRelease_changeRefCountOfOwnUrlOnly() {
+        service.retain("http://localhost/files/images/ab/abc.png");
+        service.retain("https://other.com/image.png");
+        service.retain(null);
+        service.release("http://localhost/files/images/ab/abc.png");
+        service.release("https://other.com/image.png");
+        service.release(null);
+
+        verify(storedImageRepository).increaseRefCount("images/ab/abc.png");
+        verify(storedImageRepository).decreaseRefCount("images/ab/abc.png");
+        verifyNoMoreInteractions(storedImageRepository);
+    }
+
     @Test
     @DisplayName("지원하지 않는 확장자는 AppException(UPLOAD.INVALID_FILE_TYPE)을 던진다")
     void savePostImage_invalidExtension_throws() {
@@ -64,6 +114,20 @@ class LocalFileStorageServiceTest {
                 .isEqualTo(UploadErrorCode.INVALID_FILE_TYPE);
     }
 
+    @Test
+    @DisplayName("확장자와 실제 내용의 형식이 다르면 AppException(UPLOAD.INVALID_FILE_TYPE)을 던진다")
+    void savePostImage_contentMismatch_throws() {
+        // given
+        MockMultipartFile file =
+                new MockMultipartFile("file", "image.png", "image/png", jpeg("not a png"));
+
+        // when & then
+        assertThatThrownBy(() -> service.savePostImage(file))
+                .isInstanceOf(AppException.class)
+                .extracting("errorCode")
+                .isEqualTo(UploadErrorCode.INVALID_FILE_TYPE);
+    }
+
     @Test
     @DisplayName("비어 있는 파일은 INVALID_REQUEST 예외를 던진다")
     void saveProfileImage_emptyFile_throws() {
@@ -77,4 +141,14 @@ class LocalFileStorageServiceTest {
                 .extracting("errorCode")
                 .isEqualTo(CommonErrorCode.BAD_REQUEST);
     }
+
+    private static byte[] jpeg(String body) {
+        byte[] bytes = body.getBytes();
+        byte[] content = new byte[bytes.length + 3];
+        content[0] = (byte) 0xFF;
+        content[1] = (byte) 0xD8;
+        content[2] = (byte) 0xFF;
+        System.arraycopy(bytes, 0, content, 3, bytes.length);
+        return content;
+    }
 }
@@ -14,17 +14,20 @@ import org.restapi.springrestapi.service.CommentService;
 import org.restapi.springrestapi.support.fixture.UserFixture;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -32,6 +35,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @Import(SecurityConfig.class)
 class CommentControllerTest extends ControllerTestSupport {
 
+    static final String ETAG = "W/\"comments-1\"";
+
     @MockitoBean CommentService commentService;
 
 
@@ -89,6 +94,7 @@ class CommentControllerTest extends ControllerTestSupport {
     void getComments_withoutCursorUsesDefaultLimit() throws Exception {
         // given
         CommentListResult emptyResult = CommentListResult.empty();
+        given(commentService.getCommentListETag(POST_ID, null, 10)).willReturn(ETAG);
         given(commentService.getCommentList(POST_ID, null, 10)).willReturn(emptyResult);
 
         // when
@@ -101,6 +107,23 @@ class CommentControllerTest extends ControllerTestSupport {
         verify(commentService).getCommentList(POST_ID, null, 10);
     }
 
+    @Test
+    @DisplayName("If-None-Match 가 현재 ETag 와 같으면 댓글 목록을 조회하지 않고 304 를 반환한다")
+    void getComments_notModified() throws Exception {
+        // given
+        given(commentService.getCommentListETag(POST_ID, 20L, 10)).willReturn(ETAG);
+
+        // when
+        mockMvc.perform(get("/posts/{postId}/comments", POST_ID)
+                        .param("cursor", "20")
+                        .header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG));
+
+        // then
+        verify(commentService, never()).getCommentList(POST_ID, 20L, 10);
+    }
+
     @Test
     @DisplayName("댓글 수정 요청은 200을 반환한다")
     void patchComment_updates() throws Exception {
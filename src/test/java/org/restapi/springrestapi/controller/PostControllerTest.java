@@ -3,9 +3,11 @@ package org.restapi.springrestapi.controller;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.restapi.springrestapi.common.util.JsonResponseCache;
 import org.restapi.springrestapi.controller.support.ControllerTestSupport;
 import org.restapi.springrestapi.dto.post.CreatePostRequest;
 import org.restapi.springrestapi.dto.post.PatchPostRequest;
+import org.restapi.springrestapi.dto.post.PostDetailResult;
 import org.restapi.springrestapi.dto.post.PostListResult;
 import org.restapi.springrestapi.dto.post.PostResult;
 import org.restapi.springrestapi.exception.code.SuccessCode;
@@ -16,6 +18,7 @@ import org.restapi.springrestapi.service.post.PostService;
 import org.restapi.springrestapi.support.fixture.UserFixture;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -24,16 +27,22 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(PostController.class)
-@Import(SecurityConfig.class)
+@Import({SecurityConfig.class, JsonResponseCache.class})
 class PostControllerTest extends ControllerTestSupport {
 
     @MockitoBean PostService postService;
@@ -71,7 +80,7 @@ class PostControllerTest extends ControllerTestSupport {
             samplePostResult(4L, "둘")
         );
         PostListResult listResult = PostListResult.from(posts, 3);
-        given(postService.getPostList(20L, 2)).willReturn(listResult);
+        given(postService.getPostList(null, 20L, 2)).willReturn(listResult);
 
         mockMvc.perform(get("/posts")
                 .param("cursor", "20")
@@ -80,38 +89,118 @@ class PostControllerTest extends ControllerTestSupport {
             .andExpect(jsonPath("$.data.posts[0].id").value(5))
             .andExpect(jsonPath("$.data.nextCursor").value(3));
 
-        verify(postService).getPostList(20L, 2);
+        verify(postService).getPostList(null, 20L, 2);
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 시 인증 정보가 있다면 사용자 ID를 전달한다")
+    void getPostList_passesPrincipalId() throws Exception {
+        PostListResult listResult = PostListResult.from(List.of(samplePostResult(5L, "첫")), 4);
+        given(postService.getPostList(principal.getId(), null, 10)).willReturn(listResult);
+
+        mockMvc.perform(get("/posts")
+                .with(SecurityMockMvcRequestPostProcessors.user(principal)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.posts[0].id").value(5));
+
+        verify(postService).getPostList(principal.getId(), null, 10);
+    }
+
+    @Test
+    @DisplayName("게시글 목록은 gzip 을 허용하면 캐시된 압축 바이트로, 허용하지 않으면 원본 JSON 으로 응답한다")
+    void getPostList_servesCachedGzipBytes() throws Exception {
+        PostResult big = samplePostResult(9L, "큰 본문").toBuilder().content("본문".repeat(1_000)).build();
+        given(postService.getPostList(null, null, 10)).willReturn(PostListResult.from(List.of(big), 8));
+
+        mockMvc.perform(get("/posts")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(containsString(HttpHeaders.ACCEPT_ENCODING))));
+        mockMvc.perform(get("/posts"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+            .andExpect(jsonPath("$.data.posts[0].id").value(9));
     }
 
     @Test
     @DisplayName("게시글 상세 조회 시 인증 정보가 있다면 사용자 ID를 전달한다")
     void getPostDetail_passesPrincipalId() throws Exception {
         PostResult result = samplePostResult(7L, "상세");
-        given(postService.getPost(any(), eq(principal.getId()), eq(7L)))
-            .willReturn(result);
+        given(postService.getPost(principal.getId(), 7L))
+            .willReturn(new PostDetailResult(eTag(7L), result));
 
         mockMvc.perform(get("/posts/{id}", 7L)
                 .with(SecurityMockMvcRequestPostProcessors.user(principal)))
             .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag(7L)))
             .andExpect(jsonPath("$.data.id").value(7));
 
-        verify(postService).getPost(any(), eq(principal.getId()), eq(7L));
+        verify(postService).getPost(principal.getId(), 7L);
+        verify(postService).recordView(any(), eq(principal.getId()), eq(7L));
     }
 
     @Test
-    @DisplayName("게시글 상세 조회에 인증 정보가 없으면 null 사용자 ID로 호출한다")
-    void getPostDetail_withoutPrincipal_passesNull() throws Exception {
+    @DisplayName("If-None-Match 가 없으면 버전 조회 없이 상세 조회 한 번으로 본문과 ETag 를 만든다")
+    void getPostDetail_withoutIfNoneMatch_skipsVersionQuery() throws Exception {
         PostResult result = samplePostResult(5L, "상세-비로그인");
-        given(postService.getPost(any(), isNull(), eq(5L)))
-            .willReturn(result);
+        given(postService.getPost(null, 5L))
+            .willReturn(new PostDetailResult(eTag(5L), result));
 
         mockMvc.perform(get("/posts/{id}", 5L))
             .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag(5L)))
             .andExpect(jsonPath("$.data.id").value(5));
 
-        verify(postService).getPost(any(), isNull(), eq(5L));
+        verify(postService).getPost(null, 5L);
+        verify(postService, never()).getPostETag(any(), any());
    }
 
+    @Test
+    @DisplayName("If-None-Match 가 현재 ETag 와 같으면 본문 조회 없이 304 를 반환한다")
+    void getPostDetail_notModified() throws Exception {
+        given(postService.getPostETag(null, 5L)).willReturn(eTag(5L));
+
+        mockMvc.perform(get("/posts/{id}", 5L)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag(5L)))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag(5L)))
+            .andExpect(content().string(""));
+
+        verify(postService, never()).getPost(any(), any());
+        verify(postService).recordView(any(), isNull(), eq(5L));
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 다르면 먼저 읽은 ETag 가 아니라 본문과 같은 조회 결과로 만든 ETag 를 보낸다")
+    void getPostDetail_sendsETagOfLoadedBody() throws Exception {
+        PostResult updated = samplePostResult(6L, "수정된 제목");
+        given(postService.getPostETag(null, 6L)).willReturn(eTag(6L));
+        given(postService.getPost(null, 6L)).willReturn(new PostDetailResult("W/\"post-6-updated\"", updated));
+
+        mockMvc.perform(get("/posts/{id}", 6L)
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"post-6-old\""))
+            .andExpect(status().isOk())
+            .andExpect(header().stringValues(HttpHeaders.ETAG, "W/\"post-6-updated\""))
+            .andExpect(jsonPath("$.data.title").value("수정된 제목"));
+    }
+
+    @Test
+    @DisplayName("상세 응답은 캐시하지 않아, 조회수가 바뀌면 바로 새 값으로 응답한다")
+    void getPostDetail_isNotCached() throws Exception {
+        PostResult result = samplePostResult(8L, "상세");
+        given(postService.getPost(null, 8L))
+            .willReturn(new PostDetailResult(eTag(8L), result),
+                new PostDetailResult(eTag(8L), result.toBuilder().viewCount(result.viewCount() + 1).build()));
+
+        mockMvc.perform(get("/posts/{id}", 8L))
+            .andExpect(jsonPath("$.data.viewCount").value(result.viewCount()));
+        mockMvc.perform(get("/posts/{id}", 8L))
+            .andExpect(jsonPath("$.data.viewCount").value(result.viewCount() + 1));
+
+        verify(postService, times(2)).getPost(null, 8L);
+    }
+
     @Test
     @DisplayName("게시글 수정은 인증된 사용자 ID로 위임된다")
     void patchPost_updatesPost() throws Exception {
@@ -147,6 +236,10 @@ class PostControllerTest extends ControllerTestSupport {
         verify(postService).deletePost(principal.getId(), 8L);
     }
 
+    private static String eTag(Long postId) {
+        return "W/\"post-" + postId + "\"";
+    }
+
     private PostResult samplePostResult(Long id, String title) {
         return PostResult.builder()
             .id(id)
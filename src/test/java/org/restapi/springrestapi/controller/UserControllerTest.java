@@ -5,6 +5,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.restapi.springrestapi.controller.support.ControllerTestSupport;
 import org.restapi.springrestapi.dto.user.ChangePasswordRequest;
+import org.restapi.springrestapi.dto.user.NicknameAvailabilityResult;
 import org.restapi.springrestapi.dto.user.PatchProfileRequest;
 import org.restapi.springrestapi.dto.user.UserProfileResult;
 import org.restapi.springrestapi.security.CustomUserDetails;
@@ -13,17 +14,19 @@ import org.restapi.springrestapi.service.UserService;
 import org.restapi.springrestapi.support.fixture.UserFixture;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -31,6 +34,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @Import(SecurityConfig.class)
 class UserControllerTest extends ControllerTestSupport {
 
+    static final String ETAG = "W/\"user-5\"";
+
     @MockitoBean UserService userService;
 
     CustomUserDetails principal;
@@ -49,15 +54,41 @@ class UserControllerTest extends ControllerTestSupport {
             .nickname("tester")
             .profileImageUrl("https://img")
             .build();
+        given(userService.getUserProfileETag(5L)).willReturn(ETAG);
         given(userService.getUserProfile(5L)).willReturn(result);
 
         mockMvc.perform(get("/users/{id}", 5L))
             .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
             .andExpect(jsonPath("$.data.nickname").value("tester"));
 
         verify(userService).getUserProfile(5L);
     }
 
+    @Test
+    @DisplayName("If-None-Match 가 현재 ETag 와 같으면 프로필을 조회하지 않고 304 를 반환한다")
+    void getUserProfile_notModified() throws Exception {
+        given(userService.getUserProfileETag(5L)).willReturn(ETAG);
+
+        mockMvc.perform(get("/users/{id}", 5L)
+                .header(HttpHeaders.IF_NONE_MATCH, ETAG))
+            .andExpect(status().isNotModified());
+
+        verify(userService, never()).getUserProfile(5L);
+    }
+
+    @Test
+    @DisplayName("닉네임 사용 가능 여부는 로그인 없이 조회할 수 있다")
+    void checkNicknameAvailability_returnsResult() throws Exception {
+        given(userService.checkNicknameAvailability("tester"))
+            .willReturn(new NicknameAvailabilityResult(false));
+
+        mockMvc.perform(get("/users/nickname-availability").param("nickname", "tester"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.available").value(false));
+    }
+
     @Test
     @DisplayName("사용자 프로필 수정 요청을 위임한다")
     void updateProfile_delegatesToService() throws Exception {
@@ -83,7 +114,7 @@ class UserControllerTest extends ControllerTestSupport {
                 .content(GSON.toJson(request)))
             .andExpect(status().isNoContent());
 
-        verify(userService).updatePassword(eq(principal.user()), eq(request));
+        verify(userService).updatePassword(principal.getId(), request);
     }
 
     @Test
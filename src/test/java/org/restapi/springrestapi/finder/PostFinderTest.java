@@ -9,8 +9,10 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,6 +22,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.restapi.springrestapi.dto.post.PostResult;
+import org.restapi.springrestapi.dto.post.PostSummaryProjection;
 import org.restapi.springrestapi.exception.AppException;
 import org.restapi.springrestapi.exception.code.PostErrorCode;
 import org.restapi.springrestapi.model.Post;
@@ -43,31 +46,51 @@ class PostFinderTest {
     @Test
     @DisplayName("커서가 없으면 페이지 크기를 하한으로 보정한다")
     void findPostSummarySlice_withoutCursorClampsLowerBound() {
-        Slice<PostResult> slice = new SliceImpl<>(List.of(), PageRequest.of(0, 1), false);
-        given(postRepository.findSlice(any(PageRequest.class))).willReturn(slice);
+        Slice<PostSummaryProjection> slice = new SliceImpl<>(List.of(), PageRequest.of(0, 1), false);
+        given(postRepository.findFeedSlice(any(PageRequest.class))).willReturn(slice);
 
         Slice<PostResult> result = postFinder.findPostSummarySlice(null, 0);
 
-        assertThat(result).isSameAs(slice);
+        assertThat(result.getContent()).isEmpty();
         ArgumentCaptor<PageRequest> captor = ArgumentCaptor.forClass(PageRequest.class);
-        verify(postRepository).findSlice(captor.capture());
+        verify(postRepository).findFeedSlice(captor.capture());
         assertThat(captor.getValue().getPageSize()).isEqualTo(1);
     }
 
     @Test
     @DisplayName("커서가 있으면 페이지 크기를 상한으로 보정한다")
     void findPostSummarySlice_withCursorClampsUpperBound() {
-        Slice<PostResult> slice = new SliceImpl<>(List.of(), PageRequest.of(0, 10), false);
-        given(postRepository.findSlice(eq(100L), any(PageRequest.class))).willReturn(slice);
+        Slice<PostSummaryProjection> slice = new SliceImpl<>(List.of(), PageRequest.of(0, 10), false);
+        given(postRepository.findFeedSlice(eq(100L), any(PageRequest.class))).willReturn(slice);
 
         Slice<PostResult> result = postFinder.findPostSummarySlice(100L, 30);
 
-        assertThat(result).isSameAs(slice);
+        assertThat(result.getContent()).isEmpty();
         ArgumentCaptor<PageRequest> captor = ArgumentCaptor.forClass(PageRequest.class);
-        verify(postRepository).findSlice(eq(100L), captor.capture());
+        verify(postRepository).findFeedSlice(eq(100L), captor.capture());
         assertThat(captor.getValue().getPageSize()).isEqualTo(10);
     }
 
+    @Test
+    @DisplayName("피드 Projection 결과를 엔티티 없이 PostResult로 변환한다")
+    void findPostSummarySlice_mapsProjectionToResult() {
+        LocalDateTime createdAt = LocalDateTime.now();
+        PostSummaryProjection projection = new PostSummaryProjection(
+            9L, "제목", "본문", "thumb", 3, 2, 1, createdAt, 4L, "tester", "https://img");
+        Slice<PostSummaryProjection> slice = new SliceImpl<>(List.of(projection), PageRequest.of(0, 1), true);
+        given(postRepository.findFeedSlice(any(PageRequest.class))).willReturn(slice);
+
+        Slice<PostResult> result = postFinder.findPostSummarySlice(null, 1);
+
+        assertThat(result.hasNext()).isTrue();
+        PostResult post = result.getContent().get(0);
+        assertThat(post.id()).isEqualTo(9L);
+        assertThat(post.userId()).isEqualTo(4L);
+        assertThat(post.userNickname()).isEqualTo("tester");
+        assertThat(post.likeCount()).isEqualTo(3);
+        assertThat(post.didLike()).isFalse();
+    }
+
     @Test
     @DisplayName("userId가 null이면 좋아요 조회를 생략한다")
     void isDidLikeUser_returnsFalseWhenUserIsNull() {
@@ -77,6 +100,19 @@ class PostFinderTest {
         verify(postLikeRepository, never()).existsByUserIdAndPostId(anyLong(), anyLong());
     }
 
+    @Test
+    @DisplayName("목록 좋아요 여부는 userId가 null이면 조회를 생략하고, 아니면 한 번의 IN 조회로 가져온다")
+    void findLikedPostIds_queriesOnceForLoggedInUser() {
+        given(postLikeRepository.findLikedPostIds(3L, List.of(9L, 8L, 7L))).willReturn(List.of(9L, 7L));
+
+        Set<Long> anonymous = postFinder.findLikedPostIds(null, List.of(9L, 8L, 7L));
+        Set<Long> liked = postFinder.findLikedPostIds(3L, List.of(9L, 8L, 7L));
+
+        assertThat(anonymous).isEmpty();
+        assertThat(liked).containsExactlyInAnyOrder(9L, 7L);
+        verify(postLikeRepository).findLikedPostIds(3L, List.of(9L, 8L, 7L));
+    }
+
     @Test
     @DisplayName("게시글이 없으면 POST_NOT_FOUND 예외를 던진다")
     void findByIdOrThrow_throwsWhenPostMissing() {
@@ -0,0 +1,102 @@
+package org.restapi.springrestapi.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+/*
+    실제 Tomcat 으로 multipart 요청을 보내 업로드를 확인한다.
+    MockMvc 의 MockMultipartFile 은 Part.write 를 거치지 않으므로, 상대 경로 base-dir 문제는 내장 서버에서만 드러난다.
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "app.upload.base-dir=build/upload-it"
+)
+@ActiveProfiles("test")
+class UploadApiIntegrationTest {
+
+    @Autowired TestRestTemplate restTemplate;
+
+    @Value("${app.upload.base-dir}")
+    String baseDir;
+
+    @Value("${app.upload.public-base-url}")
+    String publicBaseUrl;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Path root = Paths.get(baseDir).toAbsolutePath();
+        if (Files.exists(root)) {
+            try (Stream<Path> paths = Files.walk(root)) {
+                paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("base-dir 가 상대 경로여도 업로드한 이미지가 base-dir 아래에 저장된다")
+    void uploadProfile_withRelativeBaseDir_storesUnderBaseDir() throws IOException {
+        assertThat(Paths.get(baseDir).isAbsolute()).isFalse();
+        byte[] png = png();
+
+        ResponseEntity<Map> response = restTemplate.postForEntity("/upload/profile", multipart(png), Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        Map<?, ?> data = (Map<?, ?>) response.getBody().get("data");
+        String url = (String) data.get("image_url");
+        assertThat(url).startsWith(publicBaseUrl + "/images/").endsWith(".png");
+
+        Path stored = Paths.get(baseDir).resolve(url.substring(publicBaseUrl.length() + 1));
+        assertThat(stored).exists();
+        assertThat(Files.readAllBytes(stored)).isEqualTo(png);
+    }
+
+    private HttpEntity<MultiValueMap<String, Object>> multipart(byte[] content) {
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("image", new ByteArrayResource(content) {
+            @Override
+            public String getFilename() {
+                return "profile.png";
+            }
+        });
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+        return new HttpEntity<>(body, headers);
+    }
+
+    private static byte[] png() throws IOException {
+        BufferedImage image = new BufferedImage(32, 32, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(3, 4, 0xff0000);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -88,6 +88,7 @@ public class UserTest {
                 // then
                 assertThat(user.getNickname()).isEqualTo(request.nickname());
                 assertThat(user.getProfileImageUrl()).isEqualTo(request.profileImageUrl());
+                assertThat(user.getProfileUpdatedAt()).isNotNull();
             }
 
             @Test
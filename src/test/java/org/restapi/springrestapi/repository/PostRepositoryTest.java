@@ -1,12 +1,22 @@
 package org.restapi.springrestapi.repository;
 
+import org.hibernate.Session;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.restapi.springrestapi.dto.post.PostDetailProjection;
+import org.restapi.springrestapi.dto.post.PostLikeState;
+import org.restapi.springrestapi.dto.post.PostSummaryProjection;
+import org.restapi.springrestapi.dto.post.PostVersion;
 import org.restapi.springrestapi.model.Post;
+import org.restapi.springrestapi.model.PostLike;
 import org.restapi.springrestapi.model.User;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -29,6 +39,22 @@ class PostRepositoryTest {
         assertThat(updated.getViewCount()).isEqualTo(post.getViewCount() + 1);
     }
 
+    @Test
+    @DisplayName("조회수 증가분을 게시글별로 한 번의 UPDATE로 반영한다")
+    void addViewCounts_appliesDeltaPerPost() {
+        Post first = persistPost("조회1");
+        Post second = persistPost("조회2");
+        Post untouched = persistPost("조회3");
+
+        int updated = postRepository.addViewCounts(Map.of(first.getId(), 3, second.getId(), 1));
+        entityManager.clear();
+
+        assertThat(updated).isEqualTo(2);
+        assertThat(entityManager.find(Post.class, first.getId()).getViewCount()).isEqualTo(3);
+        assertThat(entityManager.find(Post.class, second.getId()).getViewCount()).isEqualTo(1);
+        assertThat(entityManager.find(Post.class, untouched.getId()).getViewCount()).isZero();
+    }
+
     @Test
     @DisplayName("댓글 수 증감 쿼리가 누적된다")
     void increaseAndDecreaseCommentCount() {
@@ -59,6 +85,71 @@ class PostRepositoryTest {
             .hasValue(post.getLikeCount() + 1);
     }
 
+    @Test
+    @DisplayName("피드 조회는 커서 이후 게시글만 DTO로 반환하고 영속성 컨텍스트를 비워둔다")
+    void findFeedSlice_keysetWithoutManagedEntities() {
+        Post oldest = persistPost("첫글");
+        Post middle = persistPost("둘째글");
+        Post newest = persistPost("셋째글");
+        entityManager.clear();
+
+        Slice<PostSummaryProjection> firstPage = postRepository.findFeedSlice(PageRequest.of(0, 2));
+        Slice<PostSummaryProjection> nextPage = postRepository.findFeedSlice(middle.getId(), PageRequest.of(0, 2));
+
+        assertThat(firstPage.getContent()).extracting(PostSummaryProjection::postId)
+            .containsExactly(newest.getId(), middle.getId());
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(nextPage.getContent()).extracting(PostSummaryProjection::postId)
+            .containsExactly(oldest.getId());
+        assertThat(nextPage.getContent().get(0).authorNickname()).isEqualTo("tester-첫글");
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("상세 조회는 게시글, 작성자, 요청자의 좋아요 여부를 한 번에 반환한다")
+    void findDetailById_includesAuthorAndDidLike() {
+        Post post = persistPost("상세");
+        Post other = persistPost("다른글");
+        entityManager.persist(new PostLike(other.getAuthor(), post));
+        entityManager.flush();
+        entityManager.clear();
+
+        PostDetailProjection liked = postRepository.findDetailById(post.getId(), other.getAuthor().getId()).orElseThrow();
+        PostDetailProjection notLiked = postRepository.findDetailById(post.getId(), post.getAuthor().getId()).orElseThrow();
+        PostDetailProjection anonymous = postRepository.findDetailById(post.getId(), null).orElseThrow();
+
+        assertThat(liked.postId()).isEqualTo(post.getId());
+        assertThat(liked.authorNickname()).isEqualTo("tester-상세");
+        assertThat(liked.didLike()).isTrue();
+        assertThat(notLiked.didLike()).isFalse();
+        assertThat(anonymous.didLike()).isFalse();
+        assertThat(PostVersion.from(liked))
+            .isEqualTo(postRepository.findVersionById(post.getId(), other.getAuthor().getId()).orElseThrow());
+        assertThat(postRepository.findDetailById(-1L, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("좋아요 토글 상태는 요청자의 좋아요 여부와 탈퇴 여부, 좋아요 수를 함께 반환한다")
+    void findLikeState_includesDidLikeAndUserExists() {
+        Post post = persistPost("토글");
+        Post other = persistPost("탈퇴");
+        entityManager.persist(new PostLike(other.getAuthor(), post));
+        entityManager.flush();
+
+        assertThat(postRepository.findLikeState(post.getId(), other.getAuthor().getId()))
+            .hasValue(new PostLikeState(true, true, post.getLikeCount()));
+        assertThat(postRepository.findLikeState(post.getId(), post.getAuthor().getId()))
+            .hasValue(new PostLikeState(false, true, post.getLikeCount()));
+
+        entityManager.remove(other.getAuthor());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(postRepository.findLikeState(post.getId(), other.getAuthor().getId()))
+            .hasValue(new PostLikeState(true, false, post.getLikeCount()));
+        assertThat(postRepository.findLikeState(-1L, post.getAuthor().getId())).isEmpty();
+    }
+
     private Post persistPost(String title) {
         User author = User.builder()
             .nickname("tester-" + title)
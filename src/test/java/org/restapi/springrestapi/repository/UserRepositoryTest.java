@@ -60,4 +60,32 @@ public class UserRepositoryTest {
         assertThat(deletedUser).isNotNull();
         assertThat(deletedUser.getDeletedAt()).isAfter(beforeDeleteUser);
     }
+
+    @Test
+    @DisplayName("탈퇴한 사용자 id 와 최대 id 는 soft delete 조건과 관계없이 조회된다")
+    void findDeletedIdsAndMaxId_includeSoftDeletedRows() {
+        User active = userRepository.save(UserFixture.uniqueUser("active"));
+        User deleted = userRepository.save(UserFixture.uniqueUser("deleted"));
+        userRepository.delete(deleted);
+        userRepository.flush();
+        entityManager.clear();
+
+        assertThat(userRepository.findDeletedIds()).containsExactly(deleted.getId());
+        assertThat(userRepository.findMaxId()).isEqualTo(Math.max(active.getId(), deleted.getId()));
+    }
+
+    @Test
+    @DisplayName("비밀번호 컬럼만 갱신한다")
+    void updatePassword_changesOnlyPassword() {
+        User saved = userRepository.save(UserFixture.uniqueUser("rehash"));
+        userRepository.flush();
+
+        int updated = userRepository.updatePassword(saved.getId(), "$2a$12$rehashed");
+        entityManager.clear();
+
+        User reloaded = userRepository.findById(saved.getId()).orElseThrow();
+        assertThat(updated).isEqualTo(1);
+        assertThat(reloaded.getPassword()).isEqualTo("$2a$12$rehashed");
+        assertThat(reloaded.getNickname()).isEqualTo(saved.getNickname());
+    }
 }
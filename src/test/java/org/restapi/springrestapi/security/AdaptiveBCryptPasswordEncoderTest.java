@@ -0,0 +1,44 @@
+package org.restapi.springrestapi.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveBCryptPasswordEncoderTest {
+
+    @Test
+    @DisplayName("측정 시간을 2배씩 늘려가며 예산 안에 드는 가장 높은 strength 를 고른다")
+    void strengthFor_picksHighestStrengthWithinBudget() {
+        long ms = 1_000_000L;
+
+        assertThat(AdaptiveBCryptPasswordEncoder.strengthFor(250 * ms, 60 * ms, 10, 14)).isEqualTo(12);
+        assertThat(AdaptiveBCryptPasswordEncoder.strengthFor(240 * ms, 60 * ms, 10, 14)).isEqualTo(12);
+        assertThat(AdaptiveBCryptPasswordEncoder.strengthFor(50 * ms, 60 * ms, 10, 14)).isEqualTo(10);
+        assertThat(AdaptiveBCryptPasswordEncoder.strengthFor(10_000 * ms, 1 * ms, 10, 14)).isEqualTo(14);
+    }
+
+    @Test
+    @DisplayName("시작 시 측정한 strength 는 최소, 최대 범위 안에 있다")
+    void calibrated_staysWithinBounds() {
+        AdaptiveBCryptPasswordEncoder encoder = AdaptiveBCryptPasswordEncoder.calibrated(Duration.ofMillis(5), 4, 6);
+
+        assertThat(encoder.getStrength()).isBetween(4, 6);
+        assertThat(encoder.matches("Password1!", encoder.encode("Password1!"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("저장된 해시의 strength 가 목표보다 낮을 때만 재해싱 대상이다")
+    void upgradeEncoding_onlyWhenStrengthIsLower() {
+        AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(5);
+
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("pw"))).isTrue();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("pw"))).isFalse();
+        assertThat(encoder.upgradeEncoding(encoder.encode("pw"))).isFalse();
+        assertThat(encoder.upgradeEncoding("plain-text")).isFalse();
+        assertThat(encoder.upgradeEncoding(null)).isFalse();
+    }
+}
@@ -0,0 +1,119 @@
+package org.restapi.springrestapi.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.restapi.springrestapi.exception.AppException;
+import org.restapi.springrestapi.exception.code.CommonErrorCode;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch started = new CountDownLatch(1);
+    BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (encoder != null) {
+            encoder.close();
+        }
+    }
+
+    @Test
+    @DisplayName("해싱과 비교는 전용 스레드에서 실행되고 결과는 그대로 반환된다")
+    void encodeAndMatches_delegateOnHashingThread() {
+        encoder = new BoundedPasswordEncoder(new ThreadNameEncoder(), 2, 4, Duration.ofSeconds(5));
+
+        assertThat(encoder.encode("pw")).startsWith("password-hash-");
+        assertThat(encoder.matches("pw", "any")).isTrue();
+        assertThat(encoder.upgradeEncoding("any")).isFalse();
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차면 기다리지 않고 SERVICE_UNAVAILABLE 로 실패한다")
+    void encode_failsFastWhenSaturated() throws Exception {
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(), 1, 1, Duration.ofSeconds(5));
+        CompletableFuture.runAsync(() -> encoder.encode("running"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture.runAsync(() -> encoder.encode("queued"));
+        waitUntilQueued();
+
+        assertThatThrownBy(() -> encoder.encode("rejected"))
+            .isInstanceOf(AppException.class)
+            .hasMessage(CommonErrorCode.SERVICE_UNAVAILABLE.getMessage());
+        assertThat(encoder.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 끝나지 않으면 SERVICE_UNAVAILABLE 로 실패한다")
+    void encode_failsWhenTimeoutElapses() {
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(), 1, 1, Duration.ofMillis(50));
+
+        assertThatThrownBy(() -> encoder.encode("slow"))
+            .isInstanceOf(AppException.class)
+            .hasMessage(CommonErrorCode.SERVICE_UNAVAILABLE.getMessage());
+    }
+
+    @Test
+    @DisplayName("시간 초과된 요청이 아직 대기열에 있으면 꺼내서 자리를 비운다")
+    void encode_timeoutRemovesQueuedTask() throws Exception {
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(), 1, 1, Duration.ofMillis(50));
+        CompletableFuture.runAsync(() -> encoder.encode("running"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> encoder.encode("queued"))
+            .isInstanceOf(AppException.class)
+            .hasMessage(CommonErrorCode.SERVICE_UNAVAILABLE.getMessage());
+
+        // 실행 중인 해싱은 멈추지 않지만, 대기하던 작업은 남아 있지 않다.
+        assertThat(encoder.getQueueDepth()).isZero();
+    }
+
+    private void waitUntilQueued() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (encoder.getQueueDepth() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(encoder.getQueueDepth()).isEqualTo(1);
+    }
+
+    private static class ThreadNameEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return Thread.currentThread().getName();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return Thread.currentThread().getName().startsWith("password-hash-");
+        }
+    }
+
+    private class BlockingEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "encoded";
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return false;
+        }
+    }
+}
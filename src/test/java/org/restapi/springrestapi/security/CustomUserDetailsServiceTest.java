@@ -0,0 +1,50 @@
+package org.restapi.springrestapi.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.restapi.springrestapi.finder.UserFinder;
+import org.restapi.springrestapi.model.User;
+import org.restapi.springrestapi.repository.UserRepository;
+import org.restapi.springrestapi.support.fixture.UserFixture;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CustomUserDetailsServiceTest {
+
+    @Mock UserFinder userFinder;
+    @Mock UserRepository userRepository;
+
+    @InjectMocks CustomUserDetailsService customUserDetailsService;
+
+    @Test
+    @DisplayName("이메일로 사용자를 조회해 UserDetails 로 감싼다")
+    void loadUserByUsername_wrapsUser() {
+        User user = UserFixture.persistedUser(1L);
+        given(userFinder.findByEmailOrAuthThrow(user.getEmail())).willReturn(user);
+
+        UserDetails details = customUserDetailsService.loadUserByUsername(user.getEmail());
+
+        assertThat(((CustomUserDetails) details).getId()).isEqualTo(1L);
+        assertThat(details.getPassword()).isEqualTo(user.getPassword());
+    }
+
+    @Test
+    @DisplayName("재해싱한 비밀번호는 비밀번호 컬럼만 갱신한다")
+    void updatePassword_storesRehashedPassword() {
+        User user = UserFixture.persistedUser(2L);
+
+        UserDetails updated = customUserDetailsService.updatePassword(new CustomUserDetails(user), "$2a$12$rehashed");
+
+        verify(userRepository).updatePassword(2L, "$2a$12$rehashed");
+        assertThat(updated.getPassword()).isEqualTo("$2a$12$rehashed");
+        assertThat(user.getPassword()).isNotEqualTo("$2a$12$rehashed");
+    }
+}
@@ -0,0 +1,73 @@
+package org.restapi.springrestapi.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.restapi.springrestapi.repository.UserRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class RevokedUserRegistryTest {
+
+    UserRepository userRepository = mock(UserRepository.class);
+    RevokedUserRegistry registry = new RevokedUserRegistry(userRepository);
+
+    @Test
+    @DisplayName("동기화 시 탈퇴한 사용자와 최대 id 를 읽어 존재 여부를 메모리에서 판단한다")
+    void resync_loadsDeletedIdsAndWatermark() {
+        given(userRepository.findMaxId()).willReturn(10L);
+        given(userRepository.findDeletedIds()).willReturn(List.of(3L, 7L));
+
+        registry.resync();
+
+        assertThat(registry.isRevoked(3L)).isTrue();
+        assertThat(registry.isKnownActive(3L)).isFalse();
+        assertThat(registry.isKnownActive(5L)).isTrue();
+        assertThat(registry.isKnownActive(11L)).isFalse();
+        assertThat(registry.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("탈퇴 처리한 사용자는 즉시 탈퇴 목록에 포함된다")
+    void revoke_addsImmediately() {
+        registry.markActive(5L);
+
+        registry.revoke(5L);
+
+        assertThat(registry.isRevoked(5L)).isTrue();
+        assertThat(registry.isKnownActive(5L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("확인된 사용자 id 만 기억하고 watermark 는 올리지 않으며, 동기화가 실패해도 기존 정보를 유지한다")
+    void markActive_remembersOnlyThatIdAndSurvivesFailedResync() {
+        given(userRepository.findMaxId()).willReturn(10L);
+        given(userRepository.findDeletedIds()).willReturn(List.of());
+        registry.resync();
+
+        registry.markActive(20L);
+        given(userRepository.findMaxId()).willThrow(new IllegalStateException("db down"));
+        registry.resync();
+
+        assertThat(registry.isKnownActive(20L)).isTrue();
+        assertThat(registry.isKnownActive(15L)).isFalse();
+        assertThat(registry.isKnownActive(21L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("watermark 는 동기화에서 읽은 최대 id 로만 올라가, 그 사이에 탈퇴한 사용자를 놓치지 않는다")
+    void resync_advancesWatermarkFromQueryOnly() {
+        registry.markActive(20L);
+        given(userRepository.findMaxId()).willReturn(20L);
+        given(userRepository.findDeletedIds()).willReturn(List.of(15L));
+
+        registry.resync();
+
+        assertThat(registry.isKnownActive(15L)).isFalse();
+        assertThat(registry.isKnownActive(18L)).isTrue();
+        assertThat(registry.isKnownActive(20L)).isTrue();
+    }
+}
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.restapi.springrestapi.security.RevokedUserRegistry;
 import org.springframework.mock.web.MockFilterChain;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
@@ -18,12 +19,14 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 
 import java.io.IOException;
+import java.time.Instant;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -31,6 +34,7 @@ import static org.mockito.Mockito.when;
 class JwtFilterTest {
 
     @Mock JwtProvider jwtProvider;
+    @Mock RevokedUserRegistry revokedUserRegistry;
     @Mock AuthenticationEntryPoint authenticationEntryPoint;
 
     @InjectMocks JwtFilter jwtFilter;
@@ -64,7 +68,7 @@ class JwtFilterTest {
         MockHttpServletResponse response = new MockHttpServletResponse();
 
         when(jwtProvider.resolveRefreshToken(request)).thenReturn(Optional.of("bad"));
-        when(jwtProvider.validateRefreshToken("bad")).thenReturn(false);
+        when(jwtProvider.verifyRefreshToken("bad")).thenReturn(Optional.empty());
 
         jwtFilter.doFilter(request, response, new MockFilterChain());
 
@@ -78,14 +82,52 @@ class JwtFilterTest {
         request.addHeader("Authorization", "Bearer token");
         MockHttpServletResponse response = new MockHttpServletResponse();
         Authentication authentication = mock(Authentication.class);
+        VerifiedToken verified = new VerifiedToken(1L, "access", Instant.now().plusSeconds(600));
 
         when(jwtProvider.resolveAccessToken(request)).thenReturn(Optional.of("token"));
-        when(jwtProvider.validateAccessToken("token")).thenReturn(true);
-        when(jwtProvider.getAuthentication("token")).thenReturn(authentication);
+        when(jwtProvider.verifyAccessToken("token")).thenReturn(Optional.of(verified));
+        when(jwtProvider.getAuthentication(verified)).thenReturn(authentication);
 
         jwtFilter.doFilter(request, response, new MockFilterChain());
 
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isEqualTo(authentication);
+        verify(jwtProvider, times(1)).verifyAccessToken("token");
+        verify(jwtProvider, never()).validateAccessToken(any());
         verify(authenticationEntryPoint, never()).commence(any(), any(), any());
     }
+
+    @Test
+    @DisplayName("Access 토큰 검증에 실패하면 인증 정보를 만들지 않고 EntryPoint가 호출된다")
+    void invalidAccessToken_triggersEntryPoint() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts");
+        request.addHeader("Authorization", "Bearer expired");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        when(jwtProvider.resolveAccessToken(request)).thenReturn(Optional.of("expired"));
+        when(jwtProvider.verifyAccessToken("expired")).thenReturn(Optional.empty());
+
+        jwtFilter.doFilter(request, response, new MockFilterChain());
+
+        verify(jwtProvider, never()).getAuthentication(any());
+        verify(authenticationEntryPoint).commence(any(), any(), any());
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("탈퇴한 사용자의 Access 토큰이면 인증 정보를 만들지 않고 EntryPoint가 호출된다")
+    void revokedUserToken_triggersEntryPoint() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts");
+        request.addHeader("Authorization", "Bearer token");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        VerifiedToken verified = new VerifiedToken(3L, "access", Instant.now().plusSeconds(600));
+
+        when(jwtProvider.resolveAccessToken(request)).thenReturn(Optional.of("token"));
+        when(jwtProvider.verifyAccessToken("token")).thenReturn(Optional.of(verified));
+        when(revokedUserRegistry.isRevoked(3L)).thenReturn(true);
+
+        jwtFilter.doFilter(request, response, new MockFilterChain());
+
+        verify(jwtProvider, never()).getAuthentication(any());
+        verify(authenticationEntryPoint).commence(any(), any(), any());
+    }
 }
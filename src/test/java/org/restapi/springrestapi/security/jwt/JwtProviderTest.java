@@ -8,17 +8,21 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.restapi.springrestapi.exception.AppException;
+import org.restapi.springrestapi.exception.code.AuthErrorCode;
 import org.restapi.springrestapi.finder.UserFinder;
 import org.restapi.springrestapi.model.User;
 import org.restapi.springrestapi.security.CustomUserDetails;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -35,7 +39,7 @@ class JwtProviderTest {
             new JwtProperties.Token("access-secret-access-secret-1234567890", Duration.ofMinutes(10)),
             new JwtProperties.Token("refresh-secret-refresh-secret-123456789012", Duration.ofDays(1))
         );
-        jwtProvider = new JwtProvider(userFinder, properties);
+        jwtProvider = new JwtProvider(userFinder, properties, new VerifiedTokenCache(16));
         jwtProvider.init();
     }
 
@@ -57,6 +61,31 @@ class JwtProviderTest {
         assertThat(jwtProvider.validateAccessToken(refreshToken)).isFalse();
     }
 
+    @Test
+    @DisplayName("verifyAccessToken 은 한 번의 파싱으로 사용자 식별자, 타입, 만료 시각을 반환한다")
+    void verifyAccessToken_returnsVerifiedClaims() {
+        Instant before = Instant.now();
+        String token = jwtProvider.createAccessToken(5L);
+
+        VerifiedToken verified = jwtProvider.verifyAccessToken(token).orElseThrow();
+
+        assertThat(verified.userId()).isEqualTo(5L);
+        assertThat(verified.type()).isEqualTo("access");
+        assertThat(verified.expiresAt()).isAfter(before.plus(Duration.ofMinutes(9)));
+    }
+
+    @Test
+    @DisplayName("서명이 변조되었거나 타입이 다른 토큰은 빈 값을 반환한다")
+    void verifyAccessToken_rejectsTamperedOrWrongType() {
+        String token = jwtProvider.createAccessToken(5L);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThat(jwtProvider.verifyAccessToken(tampered)).isEmpty();
+        assertThat(jwtProvider.verifyAccessToken(jwtProvider.createRefreshToken(5L))).isEmpty();
+        assertThat(jwtProvider.verifyRefreshToken(token)).isEmpty();
+        assertThat(jwtProvider.verifyAccessToken("not-a-jwt")).isEmpty();
+    }
+
     @Test
     @DisplayName("Authorization 헤더에서 Access 토큰을 추출한다")
     void resolveAccessToken_readsHeader() {
@@ -91,21 +120,48 @@ class JwtProviderTest {
     }
 
     @Test
-    @DisplayName("getAuthentication은 UserFinder를 통해 Authentication을 구성한다")
-    void getAuthentication_usesUserFinder() {
+    @DisplayName("getAuthentication은 사용자를 조회하지 않고 토큰의 식별자로 Authentication을 구성한다")
+    void getAuthentication_doesNotLoadUser() {
         String token = jwtProvider.createAccessToken(8L);
+
+        var authentication = jwtProvider.getAuthentication(jwtProvider.verifyAccessToken(token).orElseThrow());
+
+        verify(userFinder, never()).findByIdOrAuthThrow(anyLong());
+        assertThat(authentication.getPrincipal()).isInstanceOf(CustomUserDetails.class);
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        assertThat(principal.getId()).isEqualTo(8L);
+    }
+
+    @Test
+    @DisplayName("user()를 호출할 때만 사용자를 조회하고, 같은 principal 에서는 한 번만 조회한다")
+    void getAuthentication_loadsUserLazilyOnce() {
+        String token = jwtProvider.createAccessToken(9L);
         User user = User.builder()
-            .id(8L)
-            .email("user@test.com")
-            .nickname("tester")
+            .id(9L)
+            .email("cached@test.com")
+            .nickname("cached")
             .password("encoded")
             .build();
-        when(userFinder.findByIdOrAuthThrow(8L)).thenReturn(user);
+        when(userFinder.findByIdOrAuthThrow(9L)).thenReturn(user);
 
-        var authentication = jwtProvider.getAuthentication(token);
+        VerifiedToken verified = jwtProvider.verifyAccessToken(token).orElseThrow();
+        CustomUserDetails principal = (CustomUserDetails) jwtProvider.getAuthentication(verified).getPrincipal();
+        principal.user();
 
-        verify(userFinder).findByIdOrAuthThrow(8L);
-        assertThat(authentication.getPrincipal()).isInstanceOf(CustomUserDetails.class);
-        assertThat(((CustomUserDetails) authentication.getPrincipal()).getId()).isEqualTo(8L);
+        assertThat(principal.user().getEmail()).isEqualTo("cached@test.com");
+        verify(userFinder, times(1)).findByIdOrAuthThrow(9L);
+    }
+
+    @Test
+    @DisplayName("지연 조회에서 사용자가 없으면 UserFinder 의 예외를 그대로 던진다")
+    void getAuthentication_lazyLoadFailureBecomesAuthException() {
+        String token = jwtProvider.createAccessToken(10L);
+        when(userFinder.findByIdOrAuthThrow(10L)).thenThrow(new AppException(AuthErrorCode.UNAUTHORIZED));
+
+        CustomUserDetails principal = (CustomUserDetails) jwtProvider
+            .getAuthentication(jwtProvider.verifyAccessToken(token).orElseThrow())
+            .getPrincipal();
+
+        assertThatThrownBy(principal::user).isInstanceOf(AppException.class);
     }
 }
@@ -0,0 +1,94 @@
+package org.restapi.springrestapi.security.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    static final long EXPIRES_AT = 10_000L;
+
+    AtomicInteger verifications = new AtomicInteger();
+    Function<String, Optional<VerifiedToken>> verifier = token -> {
+        verifications.incrementAndGet();
+        return token.startsWith("valid")
+            ? Optional.of(new VerifiedToken((long) token.length(), "access", Instant.ofEpochMilli(EXPIRES_AT)))
+            : Optional.empty();
+    };
+
+    @Test
+    @DisplayName("같은 토큰은 두 번째 요청부터 검증 없이 캐시된 결과를 반환한다")
+    void getOrVerify_skipsVerificationForRepeatedToken() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(16);
+
+        Optional<VerifiedToken> first = cache.getOrVerify("valid-token", verifier, 1_000);
+        Optional<VerifiedToken> second = cache.getOrVerify("valid-token", verifier, 2_000);
+
+        assertThat(verifications).hasValue(1);
+        assertThat(second).isEqualTo(first);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getSavedNanos()).isPositive();
+    }
+
+    @Test
+    @DisplayName("토큰의 exp 가 지나면 캐시를 사용하지 않고 다시 검증한다")
+    void getOrVerify_respectsExpiry() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(16);
+        cache.getOrVerify("valid-token", verifier, 1_000);
+
+        cache.getOrVerify("valid-token", verifier, EXPIRES_AT);
+
+        assertThat(verifications).hasValue(2);
+        assertThat(cache.getHitCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 저장하지 않는다")
+    void getOrVerify_doesNotCacheFailures() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(16);
+
+        assertThat(cache.getOrVerify("forged", verifier, 1_000)).isEmpty();
+        assertThat(cache.getOrVerify("forged", verifier, 1_000)).isEmpty();
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("같은 자리를 쓰는 다른 토큰에는 캐시된 결과를 돌려주지 않는다")
+    void getOrVerify_neverServesAnotherTokensResult() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(1);
+        cache.getOrVerify("valid-a", verifier, 1_000);
+
+        Optional<VerifiedToken> other = cache.getOrVerify("valid-bb", verifier, 1_000);
+
+        assertThat(verifications).hasValue(2);
+        assertThat(other).map(VerifiedToken::userId).contains(8L);
+    }
+
+    @Test
+    @DisplayName("토큰 비교는 길이와 모든 문자가 같을 때만 일치로 본다")
+    void matches_requiresIdenticalToken() {
+        assertThat(VerifiedTokenCache.matches("header.payload.sig", "header.payload.sig")).isTrue();
+        assertThat(VerifiedTokenCache.matches("header.payload.sig", "header.payload.siG")).isFalse();
+        assertThat(VerifiedTokenCache.matches("header.payload.sig", "Header.payload.sig")).isFalse();
+        assertThat(VerifiedTokenCache.matches("header.payload.sig", "header.payload.sig2")).isFalse();
+    }
+
+    @Test
+    @DisplayName("크기가 0 이면 매번 검증한다")
+    void getOrVerify_disabledWhenSizeIsZero() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(0);
+
+        cache.getOrVerify("valid-token", verifier, 1_000);
+        cache.getOrVerify("valid-token", verifier, 1_000);
+
+        assertThat(verifications).hasValue(2);
+    }
+}
@@ -9,18 +9,22 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.restapi.springrestapi.common.util.FileStorageService;
 import org.restapi.springrestapi.dto.auth.LoginRequest;
 import org.restapi.springrestapi.dto.auth.LoginResult;
 import org.restapi.springrestapi.dto.auth.RefreshTokenResult;
 import org.restapi.springrestapi.dto.auth.SignUpRequest;
 import org.restapi.springrestapi.exception.AppException;
 import org.restapi.springrestapi.exception.code.AuthErrorCode;
+import org.restapi.springrestapi.exception.code.UserErrorCode;
 import org.restapi.springrestapi.finder.UserFinder;
 import org.restapi.springrestapi.model.User;
 import org.restapi.springrestapi.repository.UserRepository;
 import org.restapi.springrestapi.security.CustomUserDetails;
+import org.restapi.springrestapi.security.RevokedUserRegistry;
 import org.restapi.springrestapi.security.jwt.JwtProvider;
 import org.restapi.springrestapi.support.fixture.UserFixture;
+import org.restapi.springrestapi.validator.TakenUserNames;
 import org.restapi.springrestapi.validator.UserValidator;
 import org.springframework.http.ResponseCookie;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -36,6 +40,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,6 +52,9 @@ class AuthServiceTest {
     @Mock UserValidator userValidator;
     @Mock UserRepository userRepository;
     @Mock UserFinder userFinder;
+    @Mock RevokedUserRegistry revokedUserRegistry;
+    @Mock TakenUserNames takenUserNames;
+    @Mock FileStorageService fileStorageService;
 
     @InjectMocks AuthService authService;
 
@@ -123,6 +131,9 @@ class AuthServiceTest {
             ArgumentCaptor<User> captor = ArgumentCaptor.forClass(User.class);
             verify(userRepository).save(captor.capture());
             assertThat(captor.getValue().getPassword()).isEqualTo("encoded");
+            verify(revokedUserRegistry).markActive(1L);
+            verify(takenUserNames).putNickname(request.nickname());
+            verify(fileStorageService).retain(saved.getProfileImageUrl());
             assertThat(result.accessToken()).isEqualTo("access");
             assertThat(result.refreshCookie()).isEqualTo(cookie);
         }
@@ -144,10 +155,44 @@ class AuthServiceTest {
             RefreshTokenResult result = authService.refresh(request);
 
             verify(userFinder).existsByIdOrThrow(7L);
+            verify(revokedUserRegistry).markActive(7L);
             assertThat(result.accessToken()).isEqualTo("new-access");
             assertThat(result.refreshCookie()).isEqualTo(cookie);
         }
 
+        @Test
+        @DisplayName("이미 알고 있는 사용자면 회원 조회 없이 토큰을 재발급한다")
+        void refresh_knownActiveUser_skipsExistenceQuery() {
+            HttpServletRequest request = mock(HttpServletRequest.class);
+            given(jwtProvider.resolveRefreshToken(request)).willReturn(Optional.of("old-refresh"));
+            given(jwtProvider.getUserIdFromRefresh("old-refresh")).willReturn(7L);
+            given(revokedUserRegistry.isKnownActive(7L)).willReturn(true);
+            given(jwtProvider.createAccessToken(7L)).willReturn("new-access");
+            given(jwtProvider.createRefreshToken(7L)).willReturn("new-refresh");
+            given(jwtProvider.createRefreshCookie("new-refresh"))
+                .willReturn(ResponseCookie.from("refresh_token", "new-refresh").build());
+
+            RefreshTokenResult result = authService.refresh(request);
+
+            verify(userFinder, never()).existsByIdOrThrow(7L);
+            assertThat(result.accessToken()).isEqualTo("new-access");
+        }
+
+        @Test
+        @DisplayName("탈퇴한 사용자의 refresh 요청은 회원 조회 없이 USER_NOT_FOUND 예외를 던진다")
+        void refresh_revokedUser_throws() {
+            HttpServletRequest request = mock(HttpServletRequest.class);
+            given(jwtProvider.resolveRefreshToken(request)).willReturn(Optional.of("old-refresh"));
+            given(jwtProvider.getUserIdFromRefresh("old-refresh")).willReturn(7L);
+            given(revokedUserRegistry.isRevoked(7L)).willReturn(true);
+
+            assertThatThrownBy(() -> authService.refresh(request))
+                .isInstanceOf(AppException.class)
+                .hasMessage(UserErrorCode.USER_NOT_FOUND.getMessage());
+            verify(userFinder, never()).existsByIdOrThrow(7L);
+            verify(jwtProvider, never()).createAccessToken(7L);
+        }
+
         @Test
         @DisplayName("refresh 토큰이 없으면 REFRESH_COOKIE_MISSING 예외를 던진다")
         void refresh_missingToken_throws() {
@@ -20,6 +20,7 @@ import org.restapi.springrestapi.model.Post;
 import org.restapi.springrestapi.model.User;
 import org.restapi.springrestapi.repository.CommentRepository;
 import org.restapi.springrestapi.repository.PostRepository;
+import org.restapi.springrestapi.service.post.PostFeedCache;
 import org.restapi.springrestapi.support.fixture.CommentFixture;
 import org.restapi.springrestapi.support.fixture.PostFixture;
 import org.restapi.springrestapi.support.fixture.UserFixture;
@@ -48,6 +49,7 @@ public class CommentServiceTest {
     @Mock CommentFinder commentFinder;
     @Mock PostFinder postFinder;
     @Mock UserFinder userFinder;
+    @Mock PostFeedCache postFeedCache;
 
     @Test
     @DisplayName("댓글 작성 시 게시글 존재 여부를 확인하고 저장 및 집계를 수행한다")
@@ -70,6 +72,7 @@ public class CommentServiceTest {
 		// then
 		verify(postFinder).existsByIdOrThrow(postId);
         verify(postRepository).increaseCommentCount(postId);
+        verify(postFeedCache).changeCommentCount(postId, 1);
         verify(commentRepository).save(any(Comment.class));
         assertThat(result.id()).isEqualTo(savedComment.getId());
         assertThat(result.content()).isEqualTo(savedComment.getContent());
@@ -161,6 +164,7 @@ public class CommentServiceTest {
         commentService.deleteComment(userId, postId, commentId);
 
         verify(postRepository).decreaseCommentCount(postId);
+        verify(postFeedCache).changeCommentCount(postId, -1);
         verify(commentRepository).deleteById(commentId);
     }
 
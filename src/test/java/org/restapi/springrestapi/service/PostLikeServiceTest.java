@@ -7,23 +7,23 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.restapi.springrestapi.dto.post.PatchPostLikeResult;
+import org.restapi.springrestapi.dto.post.PostLikeState;
+import org.restapi.springrestapi.exception.AppException;
+import org.restapi.springrestapi.exception.code.PostErrorCode;
+import org.restapi.springrestapi.exception.code.UserErrorCode;
 import org.restapi.springrestapi.finder.PostFinder;
-import org.restapi.springrestapi.finder.UserFinder;
-import org.restapi.springrestapi.model.Post;
-import org.restapi.springrestapi.model.PostLike;
-import org.restapi.springrestapi.model.User;
 import org.restapi.springrestapi.repository.PostLikeRepository;
 import org.restapi.springrestapi.repository.PostRepository;
+import org.restapi.springrestapi.service.post.PostFeedCache;
+import org.restapi.springrestapi.service.post.PostLikeCountAggregator;
 import org.restapi.springrestapi.service.post.PostLikeService;
-import org.restapi.springrestapi.support.fixture.PostFixture;
-import org.restapi.springrestapi.support.fixture.UserFixture;
-import org.restapi.springrestapi.validator.UserValidator;
-
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,10 +32,9 @@ class PostLikeServiceTest {
     @Mock PostRepository postRepository;
     @Mock PostLikeRepository postLikeRepository;
     @Mock
-    UserValidator userValidator;
-    @Mock UserFinder userFinder;
-    @Mock
     PostFinder postFinder;
+    @Mock PostFeedCache postFeedCache;
+    @Mock PostLikeCountAggregator postLikeCountAggregator;
 
     @InjectMocks PostLikeService postLikeService;
 
@@ -45,21 +44,17 @@ class PostLikeServiceTest {
         // given
         Long userId = 1L;
         Long postId = 2L;
-        Post post = PostFixture.persistedPost(postId, UserFixture.persistedUser(100L));
-        PostLike like = new PostLike(UserFixture.persistedUser(userId), post);
-        given(postLikeRepository.existsByUserIdAndPostId(userId, postId)).willReturn(true);
-        given(postLikeRepository.findByUserIdAndPostId(userId, postId)).willReturn(like);
-        given(postRepository.findLikeCountById(postId)).willReturn(Optional.of(3));
+        given(postFinder.findLikeStateOrThrow(postId, userId)).willReturn(new PostLikeState(true, true, 4));
+        given(postLikeRepository.deleteIfPresent(userId, postId)).willReturn(1);
 
         // when
         PatchPostLikeResult result = postLikeService.togglePostLike(userId, postId);
 
         // then
-        verify(userFinder).existsByIdOrThrow(userId);
-        verify(postFinder).existsByIdOrThrow(postId);
         verify(postRepository).decreaseLikeCount(postId);
-        verify(postLikeRepository).delete(like);
-//        assertThat(result.isLiked()).isFalse();
+        verify(postRepository, never()).findLikeCountById(anyLong());
+        verify(postFeedCache).changeLikeCount(postId, -1);
+        assertThat(result.didLike()).isFalse();
         assertThat(result.likeCount()).isEqualTo(3);
     }
 
@@ -69,23 +64,70 @@ class PostLikeServiceTest {
         // given
         Long userId = 4L;
         Long postId = 5L;
-        User user = UserFixture.persistedUser(userId);
-        Post post = PostFixture.persistedPost(postId, UserFixture.persistedUser(100L));
-        given(postLikeRepository.existsByUserIdAndPostId(userId, postId)).willReturn(false);
-        given(userFinder.findProxyById(userId)).willReturn(user);
-        given(postFinder.findProxyById(postId)).willReturn(post);
-        given(postRepository.findLikeCountById(postId)).willReturn(Optional.of(11));
+        given(postFinder.findLikeStateOrThrow(postId, userId)).willReturn(new PostLikeState(false, true, 10));
+        given(postLikeRepository.insertIfAbsent(userId, postId)).willReturn(1);
 
         // when
         PatchPostLikeResult result = postLikeService.togglePostLike(userId, postId);
 
         // then
-        verify(userFinder).existsByIdOrThrow(userId);
-        verify(postFinder).existsByIdOrThrow(postId);
         verify(postRepository).increaseLikeCount(postId);
-        verify(postLikeRepository).save(any(PostLike.class));
-//        assertThat(result.isLiked()).isTrue();
+        verify(postFeedCache).changeLikeCount(postId, 1);
+        assertThat(result.didLike()).isTrue();
+        assertThat(result.likeCount()).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("인기 게시글은 좋아요 수를 집계 계층에 맡기고, 응답에는 반영 전 증감분과 이번 변경분까지 더한 값을 돌려준다")
+    void togglePostLike_hotPost_delegatesToAggregator() {
+        Long userId = 4L;
+        Long postId = 5L;
+        given(postFinder.findLikeStateOrThrow(postId, userId)).willReturn(new PostLikeState(false, true, 10));
+        given(postLikeRepository.insertIfAbsent(userId, postId)).willReturn(1);
+        given(postLikeCountAggregator.record(postId, 1)).willReturn(true);
+        given(postLikeCountAggregator.pendingDelta(postId)).willReturn(7L);
+
+        PatchPostLikeResult result = postLikeService.togglePostLike(userId, postId);
+
+        verify(postRepository, never()).increaseLikeCount(anyLong());
+        verify(postFeedCache, never()).changeLikeCount(anyLong(), anyInt());
+        assertThat(result.likeCount()).isEqualTo(18);
+    }
+
+    @Test
+    @DisplayName("동시 요청이 먼저 좋아요를 추가했다면 카운트를 바꾸지 않고, 조회한 좋아요 수를 그대로 돌려준다")
+    void togglePostLike_concurrentInsert_isNoOp() {
+        Long userId = 4L;
+        Long postId = 5L;
+        given(postFinder.findLikeStateOrThrow(postId, userId)).willReturn(new PostLikeState(false, true, 11));
+        given(postLikeRepository.insertIfAbsent(userId, postId)).willReturn(0);
+
+        PatchPostLikeResult result = postLikeService.togglePostLike(userId, postId);
+
+        verify(postRepository, never()).increaseLikeCount(anyLong());
+        verify(postFeedCache, never()).changeLikeCount(anyLong(), anyInt());
+        assertThat(result.didLike()).isTrue();
         assertThat(result.likeCount()).isEqualTo(11);
     }
 
+    @Test
+    @DisplayName("탈퇴한 사용자는 USER_NOT_FOUND 예외를 던지고 아무것도 쓰지 않는다")
+    void togglePostLike_userDeleted_throws() {
+        given(postFinder.findLikeStateOrThrow(2L, 1L)).willReturn(new PostLikeState(false, false, 0));
+
+        assertThatThrownBy(() -> postLikeService.togglePostLike(1L, 2L))
+            .isInstanceOf(AppException.class)
+            .satisfies(ex -> assertThat(((AppException) ex).getErrorCode()).isEqualTo(UserErrorCode.USER_NOT_FOUND));
+        verify(postLikeRepository, never()).insertIfAbsent(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("게시글이 없으면 POST_NOT_FOUND 예외를 던지고 아무것도 쓰지 않는다")
+    void togglePostLike_postMissing_throws() {
+        given(postFinder.findLikeStateOrThrow(9L, 1L)).willThrow(new AppException(PostErrorCode.POST_NOT_FOUND));
+
+        assertThatThrownBy(() -> postLikeService.togglePostLike(1L, 9L))
+            .isInstanceOf(AppException.class);
+        verify(postLikeRepository, never()).insertIfAbsent(anyLong(), anyLong());
+    }
 }
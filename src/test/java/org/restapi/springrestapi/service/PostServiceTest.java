@@ -7,11 +7,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.restapi.springrestapi.common.util.FileStorageService;
 import org.restapi.springrestapi.dto.post.CreatePostRequest;
 import org.restapi.springrestapi.dto.post.PatchPostRequest;
+import org.restapi.springrestapi.dto.post.PostDetailProjection;
+import org.restapi.springrestapi.dto.post.PostDetailResult;
 import org.restapi.springrestapi.dto.post.PostListResult;
 import org.restapi.springrestapi.dto.post.PostResult;
+import org.restapi.springrestapi.dto.post.PostVersion;
 import org.restapi.springrestapi.exception.AppException;
 import org.restapi.springrestapi.exception.code.PostErrorCode;
 import org.restapi.springrestapi.finder.PostFinder;
@@ -20,7 +25,10 @@ import org.restapi.springrestapi.model.Post;
 import org.restapi.springrestapi.model.User;
 import org.restapi.springrestapi.repository.PostRepository;
 import org.restapi.springrestapi.service.post.LocalPostViewDebounce;
+import org.restapi.springrestapi.service.post.PostFeedCache;
 import org.restapi.springrestapi.service.post.PostService;
+import org.restapi.springrestapi.service.post.PostLikeCountAggregator;
+import org.restapi.springrestapi.service.post.PostViewCountBuffer;
 import org.restapi.springrestapi.support.fixture.PostFixture;
 import org.restapi.springrestapi.support.fixture.UserFixture;
 import org.springframework.data.domain.PageRequest;
@@ -29,6 +37,7 @@ import org.springframework.data.domain.SliceImpl;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -37,6 +46,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,6 +59,10 @@ public class PostServiceTest {
     @Mock PostFinder postFinder;
     @Mock LocalPostViewDebounce localPostViewDebounce;
     @Mock UserFinder userFinder;
+    @Spy PostFeedCache postFeedCache = new PostFeedCache();
+    @Mock PostViewCountBuffer postViewCountBuffer;
+    @Mock PostLikeCountAggregator postLikeCountAggregator;
+    @Mock FileStorageService fileStorageService;
 
     @Test
     @DisplayName("게시글 작성 시 작성자 정보와 요청 본문으로 jwt저장 후 DTO를 반환한다")
@@ -68,6 +82,8 @@ public class PostServiceTest {
         assertThat(toPersist.getTitle()).isEqualTo(request.title());
         assertThat(result.id()).isEqualTo(savedPost.getId());
         assertThat(result.didLike()).isFalse();
+        verify(fileStorageService).retain(savedPost.getThumbnailImageUrl());
+        verify(postFeedCache).putCreated(result);
     }
 
     @Test
@@ -76,61 +92,145 @@ public class PostServiceTest {
         PostResult first = samplePostResult(30L, "첫번째");
         PostResult second = samplePostResult(17L, "두번째");
         Slice<PostResult> slice = new SliceImpl<>(List.of(first, second), PageRequest.of(0, 2), false);
-        given(postFinder.findPostSummarySlice(null, 2)).willReturn(slice);
+        given(postFinder.findPostSummarySlice(20L, 2)).willReturn(slice);
 
-        PostListResult result = postService.getPostList(null, 2);
+        PostListResult result = postService.getPostList(null, 20L, 2);
 
         assertThat(result.posts()).containsExactly(first, second);
         assertThat(result.nextCursor()).isEqualTo(16);
     }
 
+    @Test
+    @DisplayName("커서가 없는 목록 조회는 첫 페이지 캐시를 채운 뒤 이후 요청을 캐시로 응답한다")
+    void getPostList_withoutCursor_servesFromFeedCache() {
+        PostResult first = samplePostResult(30L, "첫번째");
+        PostResult second = samplePostResult(17L, "두번째");
+        PostResult third = samplePostResult(9L, "세번째");
+        Slice<PostResult> slice = new SliceImpl<>(List.of(first, second, third), PageRequest.of(0, PostFeedCache.CAPACITY), false);
+        given(postFinder.findPostSummarySlice(null, PostFeedCache.CAPACITY)).willReturn(slice);
+
+        PostListResult firstCall = postService.getPostList(null, null, 2);
+        PostListResult secondCall = postService.getPostList(null, null, 3);
+
+        verify(postFinder, times(1)).findPostSummarySlice(null, PostFeedCache.CAPACITY);
+        assertThat(firstCall.posts()).containsExactly(first, second);
+        assertThat(secondCall.posts()).containsExactly(first, second, third);
+        assertThat(postFeedCache.getMissCount()).isEqualTo(1);
+        assertThat(postFeedCache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로그인 사용자의 목록 조회는 한 번의 조회로 페이지 전체의 좋아요 여부를 채운다")
+    void getPostList_withUser_resolvesDidLikeInBulk() {
+        PostResult first = samplePostResult(30L, "첫번째");
+        PostResult second = samplePostResult(17L, "두번째");
+        Slice<PostResult> slice = new SliceImpl<>(List.of(first, second), PageRequest.of(0, PostFeedCache.CAPACITY), false);
+        given(postFinder.findPostSummarySlice(null, PostFeedCache.CAPACITY)).willReturn(slice);
+        given(postFinder.findLikedPostIds(3L, List.of(30L, 17L))).willReturn(Set.of(17L));
+
+        PostListResult result = postService.getPostList(3L, null, 2);
+
+        assertThat(result.posts()).extracting(PostResult::didLike).containsExactly(false, true);
+        verify(postFinder, times(1)).findLikedPostIds(3L, List.of(30L, 17L));
+        // 캐시에는 사용자별 좋아요 여부가 섞이지 않는다.
+        assertThat(postFeedCache.getFirstPage(2, List::of)).extracting(PostResult::didLike).containsOnly(false);
+    }
+
     @Test
     @DisplayName("커서 기반 요청에서 게시글이 없으면 빈 리스트와 기존 커서를 반환한다")
     void getPostList_returnsEmptyListWhenSliceIsEmpty() {
         Slice<PostResult> emptySlice = new SliceImpl<>(List.of(), PageRequest.of(0, 5), false);
         given(postFinder.findPostSummarySlice(50L, 5)).willReturn(emptySlice);
 
-        PostListResult result = postService.getPostList(50L, 5);
+        PostListResult result = postService.getPostList(null, 50L, 5);
 
         assertThat(result.posts()).isEmpty();
         assertThat(result.nextCursor()).isEqualTo(50L);
     }
 
     @Test
-    @DisplayName("게시글 상세 조회 시 최근 조회 이력이 없으면 조회수를 증가시킨다")
-    void getPost_incrementsViewCountWhenNotSeenRecently() {
-        HttpServletRequest request = mock(HttpServletRequest.class);
+    @DisplayName("게시글 상세 조회 시 반영 전 조회수를 더해 응답하고, 조회수는 기록하지 않는다")
+    void getPost_addsPendingViewsWithoutRecording() {
         Long postId = 10L;
         Long userId = 3L;
-        Post post = PostFixture.persistedPost(postId, UserFixture.persistedUser(userId));
-        given(postFinder.findByIdOrThrow(postId)).willReturn(post);
-        given(postFinder.isDidLikeUser(postId, userId)).willReturn(true);
-        given(localPostViewDebounce.seenRecently(request, userId, postId)).willReturn(false);
+        PostDetailProjection detail = sampleDetail(postId, true);
+        given(postFinder.findPostDetailOrThrow(postId, userId)).willReturn(detail);
+        given(postViewCountBuffer.pendingCount(postId)).willReturn(3L);
 
-        PostResult result = postService.getPost(request, userId, postId);
+        PostResult result = postService.getPost(userId, postId).post();
 
-        verify(postFinder).findByIdOrThrow(postId);
-        verify(postFinder).isDidLikeUser(postId, userId);
-        verify(localPostViewDebounce).seenRecently(request, userId, postId);
-        verify(postRepository).incrementViewCount(postId);
+        verify(postFinder).findPostDetailOrThrow(postId, userId);
+        verify(postViewCountBuffer, never()).increment(anyLong());
         assertThat(result.didLike()).isTrue();
+        assertThat(result.viewCount()).isEqualTo(detail.viewCount() + 3);
         assertThat(result.id()).isEqualTo(postId);
     }
 
     @Test
-    @DisplayName("최근 조회한 게시글은 조회수를 증가시키지 않는다")
-    void getPost_doesNotIncrementViewCountWhenSeenRecently() {
+    @DisplayName("상세 조회의 ETag 는 본문과 같은 조회 결과로 만들어, 같은 상태의 getPostETag 와 같다")
+    void getPost_eTagMatchesBodyState() {
+        Long postId = 10L;
+        PostDetailProjection detail = sampleDetail(postId, false);
+        given(postFinder.findPostDetailOrThrow(postId, null)).willReturn(detail);
+        given(postFinder.findVersionOrThrow(postId, null)).willReturn(PostVersion.from(detail));
+        given(postLikeCountAggregator.pendingDelta(postId)).willReturn(2L);
+
+        PostDetailResult result = postService.getPost(null, postId);
+
+        verify(postFinder, never()).findVersionOrThrow(anyLong(), any());
+        assertThat(result.post().likeCount()).isEqualTo(detail.likeCount() + 2);
+        assertThat(result.eTag()).isEqualTo(postService.getPostETag(null, postId));
+    }
+
+    @Test
+    @DisplayName("최근 조회 이력이 없으면 조회수를 버퍼에 누적한다")
+    void recordView_buffersViewWhenNotSeenRecently() {
         HttpServletRequest request = mock(HttpServletRequest.class);
-        Long postId = 4L;
-        Post post = PostFixture.persistedPost(postId, UserFixture.persistedUser(10L));
-        given(postFinder.findByIdOrThrow(postId)).willReturn(post);
-        given(postFinder.isDidLikeUser(postId, null)).willReturn(false);
-        given(localPostViewDebounce.seenRecently(request, null, postId)).willReturn(true);
+        given(localPostViewDebounce.seenRecently(request, 3L, 10L)).willReturn(false);
 
-        PostResult result = postService.getPost(request, null, postId);
+        postService.recordView(request, 3L, 10L);
 
+        verify(postViewCountBuffer).increment(10L);
         verify(postRepository, never()).incrementViewCount(anyLong());
-        assertThat(result.didLike()).isFalse();
+    }
+
+    @Test
+    @DisplayName("최근 조회한 게시글은 조회수를 증가시키지 않는다")
+    void recordView_doesNotIncrementViewCountWhenSeenRecently() {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        given(localPostViewDebounce.seenRecently(request, null, 4L)).willReturn(true);
+
+        postService.recordView(request, null, 4L);
+
+        verify(postViewCountBuffer, never()).increment(anyLong());
+    }
+
+    @Test
+    @DisplayName("ETag 는 반영 전 좋아요 증감분을 포함하고 조회수는 포함하지 않아, 조회가 늘어도 같은 값을 돌려준다")
+    void getPostETag_ignoresViewsAndIncludesPendingLikes() {
+        Long postId = 10L;
+        PostVersion version = new PostVersion(LocalDateTime.of(2025, 1, 1, 0, 0), 1, 2,
+            LocalDateTime.of(2024, 1, 1, 0, 0), false);
+        given(postFinder.findVersionOrThrow(postId, null)).willReturn(version);
+
+        String first = postService.getPostETag(null, postId);
+        String second = postService.getPostETag(null, postId);
+        given(postLikeCountAggregator.pendingDelta(postId)).willReturn(1L);
+        String afterOtherLike = postService.getPostETag(null, postId);
+
+        verify(postViewCountBuffer, never()).pendingCount(anyLong());
+        verify(localPostViewDebounce, never()).seenRecently(any(), any(), any());
+        assertThat(first).startsWith("W/\"").isEqualTo(second);
+        assertThat(afterOtherLike).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("ETag 조회 시 게시글이 없으면 예외를 던진다")
+    void getPostETag_throwsWhenPostMissing() {
+        given(postFinder.findVersionOrThrow(99L, null)).willThrow(new AppException(PostErrorCode.POST_NOT_FOUND));
+
+        assertThatThrownBy(() -> postService.getPostETag(null, 99L))
+            .isInstanceOf(AppException.class);
     }
 
     @Test
@@ -147,6 +247,7 @@ public class PostServiceTest {
         assertThat(post.getTitle()).isEqualTo(request.title());
         assertThat(post.getContent()).isEqualTo(request.content());
         assertThat(post.getThumbnailImageUrl()).isNull();
+        verify(fileStorageService).release("http://thumb");
     }
 
     @Test
@@ -173,6 +274,8 @@ public class PostServiceTest {
         postService.deletePost(authorId, postId);
 
         verify(postRepository).deleteById(postId);
+        verify(fileStorageService).release("http://thumb");
+        verify(postFeedCache).evict(postId);
     }
 
     @Test
@@ -188,6 +291,12 @@ public class PostServiceTest {
         verify(postRepository, never()).deleteById(anyLong());
     }
 
+    private PostDetailProjection sampleDetail(Long id, boolean didLike) {
+        return new PostDetailProjection(id, "상세", "content", "thumb", 1, 2, 3,
+            LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 2, 0, 0),
+            1L, "tester", "https://img", LocalDateTime.of(2024, 1, 1, 0, 0), didLike);
+    }
+
     private PostResult samplePostResult(Long id, String title) {
         return PostResult.builder()
             .id(id)
@@ -6,19 +6,29 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.restapi.springrestapi.common.util.FileStorageService;
 import org.restapi.springrestapi.dto.user.ChangePasswordRequest;
+import org.restapi.springrestapi.dto.user.NicknameAvailabilityResult;
 import org.restapi.springrestapi.dto.user.PatchProfileRequest;
 import org.restapi.springrestapi.dto.user.UserProfileResult;
+import org.restapi.springrestapi.dto.user.UserVersion;
 import org.restapi.springrestapi.finder.UserFinder;
 import org.restapi.springrestapi.model.User;
 import org.restapi.springrestapi.repository.UserRepository;
+import org.restapi.springrestapi.security.RevokedUserRegistry;
+import org.restapi.springrestapi.service.post.PostFeedCache;
 import org.restapi.springrestapi.support.fixture.UserFixture;
 import org.restapi.springrestapi.validator.AuthValidator;
+import org.restapi.springrestapi.validator.TakenUserNames;
 import org.restapi.springrestapi.validator.UserValidator;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.LocalDateTime;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +41,10 @@ public class UserServiceTest {
     @Mock PasswordEncoder passwordEncoder;
     @Mock UserValidator userValidator;
     @Mock AuthValidator authValidator;
+    @Mock PostFeedCache postFeedCache;
+    @Mock RevokedUserRegistry revokedUserRegistry;
+    @Mock TakenUserNames takenUserNames;
+    @Mock FileStorageService fileStorageService;
 
     @Test
     @DisplayName("사용자 식별자로 조회 시 Finder 결과를 DTO로 반환한다")
@@ -51,6 +65,26 @@ public class UserServiceTest {
         assertThat(result.nickname()).isEqualTo(user.getNickname());
     }
 
+    @Test
+    @DisplayName("프로필 ETag 는 프로필 변경 시각이 바뀌면 달라진다")
+    void getUserProfileETag_changesWithProfileUpdatedAt() {
+		// given
+        LocalDateTime before = LocalDateTime.of(2025, 1, 1, 0, 0);
+        given(userFinder.findVersionOrThrow(1L)).willReturn(
+            new UserVersion(1L, before),
+            new UserVersion(1L, before),
+            new UserVersion(1L, before.plusSeconds(1)));
+
+		// when
+        String first = userService.getUserProfileETag(1L);
+        String same = userService.getUserProfileETag(1L);
+        String changed = userService.getUserProfileETag(1L);
+
+		// then
+        assertThat(first).isEqualTo(same).startsWith("W/");
+        assertThat(changed).isNotEqualTo(first);
+    }
+
     @Test
     @DisplayName("프로필 수정 시 닉네임 중복 검증 후 사용자 정보를 갱신하고 저장한다")
     void updateProfile_updatesEntityAndPersistsIt() {
@@ -69,13 +103,27 @@ public class UserServiceTest {
         verify(userValidator).validateDuplicateNickname(request.nickname());
         verify(userFinder).findByIdOrThrow(userId);
         verify(userRepository).save(user);
+        verify(postFeedCache).invalidate();
+        verify(takenUserNames).putNickname(request.nickname());
+        verify(fileStorageService).retain("https://img/new");
+        verify(fileStorageService).release("http://img");
         assertThat(user.getNickname()).isEqualTo(request.nickname());
         assertThat(user.getProfileImageUrl()).isEqualTo(request.profileImageUrl());
     }
 
     @Test
-    @DisplayName("비밀번호 변경 시 새 비밀번호 검증과 인코딩을 거쳐 저장한다")
-    void updatePassword_validRequest_encodesAndSavesPassword() {
+    @DisplayName("닉네임이 사용 중이 아니면 사용 가능으로 응답한다")
+    void checkNicknameAvailability_returnsAvailableWhenNotTaken() {
+        given(userValidator.isNicknameTaken("newNick")).willReturn(false);
+
+        NicknameAvailabilityResult result = userService.checkNicknameAvailability("newNick");
+
+        assertThat(result.available()).isTrue();
+    }
+
+    @Test
+    @DisplayName("비밀번호 변경 시 DB 의 현재 비밀번호로 검증하고 비밀번호 컬럼만 갱신한다")
+    void updatePassword_validRequest_encodesAndUpdatesPasswordOnly() {
 		// given
         User user = UserFixture.persistedUser().toBuilder()
             .id(1L)
@@ -83,16 +131,31 @@ public class UserServiceTest {
             .build();
         ChangePasswordRequest request = new ChangePasswordRequest("NewPassword1!", "NewPassword1!");
         final String encodedPassword = "encoded-password";
+        given(userFinder.findByIdOrThrow(1L)).willReturn(user);
         given(passwordEncoder.encode(request.password())).willReturn(encodedPassword);
 
 		// when
-        String currentPassword = user.getPassword();
-        userService.updatePassword(user, request);
+        userService.updatePassword(1L, request);
 
 		// then
-        verify(authValidator).validateNewPassword(request, currentPassword);
-        verify(passwordEncoder).encode(request.password());
-        verify(userRepository).save(user);
-        assertThat(user.getPassword()).isEqualTo(encodedPassword);
+        verify(authValidator).validateNewPassword(request, "OldPassword1!");
+        verify(userRepository).updatePassword(1L, encodedPassword);
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    @DisplayName("회원 탈퇴 시 프로필 이미지 참조를 해제하고, 탈퇴 목록에 추가하며 목록 캐시를 비운다")
+    void deleteUser_invalidatesCaches() {
+        User user = UserFixture.persistedUser().toBuilder()
+            .id(3L)
+            .build();
+        given(userFinder.findByIdOrThrow(3L)).willReturn(user);
+
+        userService.deleteUser(3L);
+
+        verify(userRepository).delete(user);
+        verify(fileStorageService).release(user.getProfileImageUrl());
+        verify(revokedUserRegistry).revoke(3L);
+        verify(postFeedCache).invalidate();
     }
 }
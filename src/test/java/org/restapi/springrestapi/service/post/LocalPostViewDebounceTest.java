@@ -4,13 +4,22 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
 class LocalPostViewDebounceTest {
 
-    LocalPostViewDebounce debounce = new LocalPostViewDebounce();
+    LocalPostViewDebounce debounce = new LocalPostViewDebounce(Duration.ofSeconds(10), 1_000);
 
     @Test
     @DisplayName("동일 사용자, 게시글 조합에서 일정 시간 내 두 번째 호출은 true를 반환한다")
@@ -43,4 +52,56 @@ class LocalPostViewDebounceTest {
         assertThat(first).isFalse();
         assertThat(second).isTrue();
     }
+
+    @Test
+    @DisplayName("윈도우가 지나면 같은 조합도 다시 새 조회로 판단한다")
+    void seenRecently_expiresAfterWindow() {
+        long key = LocalPostViewDebounce.key(3L, 42L);
+
+        assertThat(debounce.seenRecently(key, 0)).isFalse();
+        assertThat(debounce.seenRecently(key, 9_999)).isTrue();
+        assertThat(debounce.seenRecently(key, 11_000)).isFalse();
+        assertThat(debounce.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("메모리 상한을 넘으면 가장 오래된 항목부터 제거한다")
+    void seenRecently_evictsOldestWhenCapacityExceeded() {
+        LocalPostViewDebounce small = new LocalPostViewDebounce(Duration.ofSeconds(10), 16);
+
+        for (long postId = 1; postId <= 1_000; postId++) {
+            small.seenRecently(LocalPostViewDebounce.key(postId, 7L), postId * 10);
+        }
+
+        assertThat(small.size()).isLessThanOrEqualTo(16);
+        assertThat(small.getEvictionCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("동시에 같은 조합으로 조회하면 정확히 한 요청만 새 조회로 판단한다")
+    void seenRecently_isAtomicUnderConcurrency() throws Exception {
+        final int threads = 16;
+        long key = LocalPostViewDebounce.key(1L, 99L);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return debounce.seenRecently(key, 1_000);
+            }));
+        }
+        start.countDown();
+
+        int firstViews = 0;
+        for (Future<Boolean> result : results) {
+            if (!result.get(5, TimeUnit.SECONDS)) {
+                firstViews++;
+            }
+        }
+        executor.shutdown();
+
+        assertThat(firstViews).isEqualTo(1);
+    }
 }
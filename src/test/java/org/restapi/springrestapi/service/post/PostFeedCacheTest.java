@@ -0,0 +1,138 @@
+package org.restapi.springrestapi.service.post;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.restapi.springrestapi.dto.post.PostResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostFeedCacheTest {
+
+    PostFeedCache cache = new PostFeedCache();
+
+    @Test
+    @DisplayName("첫 조회는 로더를 호출하고 이후 조회는 캐시에서 응답한다")
+    void getFirstPage_loadsOnceAndCountsHitAndMiss() {
+        AtomicInteger loads = new AtomicInteger();
+        List<PostResult> page = posts(5, 4, 3);
+
+        List<PostResult> first = cache.getFirstPage(2, () -> {
+            loads.incrementAndGet();
+            return page;
+        });
+        List<PostResult> second = cache.getFirstPage(10, () -> {
+            loads.incrementAndGet();
+            return page;
+        });
+
+        assertThat(loads).hasValue(1);
+        assertThat(first).extracting(PostResult::id).containsExactly(5L, 4L);
+        assertThat(second).extracting(PostResult::id).containsExactly(5L, 4L, 3L);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("새 게시글은 맨 앞에 추가되고 용량을 넘는 가장 오래된 항목은 밀려난다")
+    void putCreated_prependsAndTrimsToCapacity() {
+        long[] ids = LongStream.rangeClosed(1, PostFeedCache.CAPACITY).map(i -> PostFeedCache.CAPACITY + 1 - i).toArray();
+        cache.getFirstPage(PostFeedCache.CAPACITY, () -> posts(ids));
+
+        cache.putCreated(post(100L));
+
+        List<PostResult> page = cache.getFirstPage(PostFeedCache.CAPACITY, List::of);
+        assertThat(page).hasSize(PostFeedCache.CAPACITY);
+        assertThat(page.get(0).id()).isEqualTo(100L);
+        assertThat(page).extracting(PostResult::id).doesNotContain(1L);
+    }
+
+    @Test
+    @DisplayName("집계 컬럼 변경은 캐시된 항목에 그대로 반영된다")
+    void counterChanges_refreshCachedEntry() {
+        cache.getFirstPage(10, () -> posts(2, 1));
+
+        cache.addViewCounts(Map.of(2L, 1), () -> { });
+        cache.changeLikeCount(2L, 1);
+        cache.addLikeCounts(Map.of(1L, 3), () -> { });
+        cache.changeCommentCount(1L, -1);
+
+        List<PostResult> page = cache.getFirstPage(10, List::of);
+        assertThat(page.get(0).viewCount()).isEqualTo(1);
+        assertThat(page.get(0).likeCount()).isEqualTo(1);
+        assertThat(page.get(1).likeCount()).isEqualTo(3);
+        assertThat(page.get(1).commentCount()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("캐시에 포함된 게시글이 삭제되면 캐시를 비운다")
+    void evict_invalidatesWhenPostIsCached() {
+        cache.getFirstPage(10, () -> posts(2, 1));
+
+        cache.evict(99L);
+        assertThat(cache.size()).isEqualTo(2);
+
+        cache.evict(1L);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("로딩 도중 변경이 발생하면 로딩 결과를 캐시에 저장하지 않는다")
+    void getFirstPage_discardsLoadRacingWithMutation() {
+        List<PostResult> result = cache.getFirstPage(10, () -> {
+            cache.invalidate();
+            return posts(1);
+        });
+
+        assertThat(result).extracting(PostResult::id).containsExactly(1L);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖의 조회수 반영 중에 로딩된 결과는 저장하지 않아, 증가분이 두 번 더해지지 않는다")
+    void addViewCounts_discardsLoadDuringWrite() {
+        List<PostResult> loadedDuringWrite = new ArrayList<>();
+
+        cache.addViewCounts(Map.of(1L, 3), () -> loadedDuringWrite.addAll(
+            cache.getFirstPage(10, () -> List.of(post(1L).toBuilder().viewCount(3).build()))));
+
+        assertThat(loadedDuringWrite).extracting(PostResult::viewCount).containsExactly(3);
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getFirstPage(10, () -> List.of(post(1L).toBuilder().viewCount(3).build())))
+            .extracting(PostResult::viewCount).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("조회수 반영이 실패하면 캐시에 더하지 않고 예외를 그대로 던진다")
+    void addViewCounts_skipsCacheOnFailure() {
+        cache.getFirstPage(10, () -> posts(1));
+
+        assertThatThrownBy(() -> cache.addViewCounts(Map.of(1L, 3), () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.getFirstPage(10, List::of)).extracting(PostResult::viewCount).containsExactly(0);
+    }
+
+    private List<PostResult> posts(long... ids) {
+        return LongStream.of(ids).mapToObj(this::post).toList();
+    }
+
+    private PostResult post(long id) {
+        return PostResult.builder()
+            .id(id)
+            .userId(1L)
+            .userNickname("tester")
+            .title("title-" + id)
+            .content("content")
+            .createdAt(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,98 @@
+package org.restapi.springrestapi.service.post;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.restapi.springrestapi.dto.post.PostResult;
+import org.restapi.springrestapi.repository.PostRepository;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PostLikeCountAggregatorTest {
+
+    @Mock PostRepository postRepository;
+    @Spy PostFeedCache postFeedCache = new PostFeedCache();
+
+    PostLikeCountAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new PostLikeCountAggregator(postRepository, postFeedCache, 3, 10_000);
+    }
+
+    @Test
+    @DisplayName("쓰기 빈도가 기준 미만이면 immediate 모드로 동작한다")
+    void record_belowThreshold_isImmediate() {
+        assertThat(aggregator.record(1L, 1)).isFalse();
+        assertThat(aggregator.record(1L, -1)).isFalse();
+
+        assertThat(aggregator.pendingDelta(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("초당 쓰기가 기준을 넘으면 집계 모드로 전환되고 cool-down 동안 유지된다")
+    void isHot_switchesAfterThresholdAndCoolsDown() {
+        assertThat(aggregator.isHot(1L, 1_000)).isFalse();
+        assertThat(aggregator.isHot(1L, 1_100)).isFalse();
+        assertThat(aggregator.isHot(1L, 1_200)).isTrue();
+
+        assertThat(aggregator.isHot(1L, 9_000)).isTrue();
+        assertThat(aggregator.isHot(1L, 11_300)).isFalse();
+        assertThat(aggregator.isHot(2L, 1_300)).isFalse();
+    }
+
+    @Test
+    @DisplayName("집계 모드의 증감분은 reconcile 에서 한 번에 반영되고 캐시에도 적용된다")
+    void reconcile_appliesAggregatedDeltas() {
+        postFeedCache.getFirstPage(10, () -> List.of(PostResult.builder().id(7L).likeCount(10).build()));
+        PostLikeCountAggregator alwaysHot = new PostLikeCountAggregator(postRepository, postFeedCache, 1, 10_000);
+        for (int i = 0; i < 5; i++) {
+            assertThat(alwaysHot.record(7L, 1)).isTrue();
+        }
+        alwaysHot.record(7L, -1);
+        assertThat(alwaysHot.pendingDelta(7L)).isEqualTo(4);
+
+        alwaysHot.reconcile();
+
+        verify(postRepository).addLikeCounts(Map.of(7L, 4));
+        verify(postFeedCache).addLikeCounts(eq(Map.of(7L, 4)), any());
+        assertThat(postFeedCache.getFirstPage(10, List::of)).extracting(PostResult::likeCount).containsExactly(14);
+        assertThat(alwaysHot.pendingDelta(7L)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 증감분을 되돌리고 피드 캐시에는 더하지 않는다")
+    void reconcile_restoresDeltasOnFailure() {
+        postFeedCache.getFirstPage(10, () -> List.of(PostResult.builder().id(7L).likeCount(10).build()));
+        PostLikeCountAggregator alwaysHot = new PostLikeCountAggregator(postRepository, postFeedCache, 1, 10_000);
+        alwaysHot.record(7L, 1);
+        given(postRepository.addLikeCounts(Map.of(7L, 1))).willThrow(new IllegalStateException("db down"));
+
+        alwaysHot.reconcile();
+
+        assertThat(alwaysHot.pendingDelta(7L)).isEqualTo(1);
+        assertThat(postFeedCache.getFirstPage(10, List::of)).extracting(PostResult::likeCount).containsExactly(10);
+    }
+
+    @Test
+    @DisplayName("모인 증감분이 없으면 UPDATE를 실행하지 않는다")
+    void reconcile_skipsWhenEmpty() {
+        aggregator.reconcile();
+
+        verify(postRepository, never()).addLikeCounts(anyMap());
+    }
+}
@@ -0,0 +1,86 @@
+package org.restapi.springrestapi.service.post;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.restapi.springrestapi.dto.post.PostResult;
+import org.restapi.springrestapi.repository.PostRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PostViewCountBufferTest {
+
+    @InjectMocks
+    PostViewCountBuffer buffer;
+
+    @Mock PostRepository postRepository;
+    @Spy PostFeedCache postFeedCache = new PostFeedCache();
+
+    @Test
+    @DisplayName("조회수는 flush 전까지 버퍼에 누적되고, flush 시 게시글별 합계를 한 번에 반영한다")
+    void flush_appliesAccumulatedDeltas() {
+        buffer.increment(1L);
+        buffer.increment(1L);
+        buffer.increment(2L);
+        assertThat(buffer.pendingCount(1L)).isEqualTo(2);
+
+        buffer.flush();
+
+        verify(postRepository).addViewCounts(Map.of(1L, 2, 2L, 1));
+        verify(postFeedCache).addViewCounts(eq(Map.of(1L, 2, 2L, 1)), any());
+        assertThat(buffer.pendingCount(1L)).isZero();
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영할 조회수가 없으면 UPDATE를 실행하지 않는다")
+    void flush_skipsWhenEmpty() {
+        buffer.flush();
+
+        verify(postRepository, never()).addViewCounts(anyMap());
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 증가분을 버퍼로 되돌려 다음 flush 에서 다시 시도한다")
+    void flush_restoresDeltasOnFailure() {
+        postFeedCache.getFirstPage(10, () -> List.of(PostResult.builder().id(5L).viewCount(0).build()));
+        buffer.increment(5L);
+        given(postRepository.addViewCounts(Map.of(5L, 1))).willThrow(new IllegalStateException("db down"));
+
+        buffer.flush();
+
+        assertThat(buffer.pendingCount(5L)).isEqualTo(1);
+        assertThat(postFeedCache.getFirstPage(10, List::of)).extracting(PostResult::viewCount).containsExactly(0);
+    }
+
+    @Test
+    @DisplayName("동시에 누적된 조회수는 유실 없이 반영된다")
+    void increment_isThreadSafe() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        IntStream.range(0, 1_000).forEach(i -> executor.submit(() -> buffer.increment(7L)));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        buffer.drainOnShutdown();
+
+        verify(postRepository).addViewCounts(Map.of(7L, 1_000));
+    }
+}
@@ -0,0 +1,48 @@
+package org.restapi.springrestapi.service.post;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserKeyGeneratorTest {
+
+    @Test
+    @DisplayName("X-Forwarded-For 는 첫 번째 주소만 공백을 제외하고 사용한다")
+    void fingerprint_usesFirstForwardedHop() {
+        MockHttpServletRequest forwarded = request("10.0.0.1", "JUnit");
+        forwarded.addHeader("X-Forwarded-For", "  127.0.0.1 , 10.0.0.2");
+        MockHttpServletRequest direct = request("127.0.0.1", "JUnit");
+
+        assertThat(UserKeyGenerator.fingerprint(forwarded, null))
+            .isEqualTo(UserKeyGenerator.fingerprint(direct, null));
+    }
+
+    @Test
+    @DisplayName("IP 또는 User-Agent 가 다르면 다른 식별값을 만든다")
+    void fingerprint_distinguishesVisitors() {
+        long base = UserKeyGenerator.fingerprint(request("127.0.0.1", "JUnit"), null);
+
+        assertThat(UserKeyGenerator.fingerprint(request("127.0.0.2", "JUnit"), null)).isNotEqualTo(base);
+        assertThat(UserKeyGenerator.fingerprint(request("127.0.0.1", "Chrome"), null)).isNotEqualTo(base);
+        assertThat(UserKeyGenerator.fingerprint(request("127.0.0.1", "JUnit"), 1L)).isNotEqualTo(base);
+    }
+
+    @Test
+    @DisplayName("로그인 사용자는 요청 헤더와 무관하게 userId 로 식별한다")
+    void fingerprint_usesUserIdWhenLoggedIn() {
+        long fromPc = UserKeyGenerator.fingerprint(request("127.0.0.1", "JUnit"), 7L);
+        long fromMobile = UserKeyGenerator.fingerprint(request("10.0.0.9", "Mobile"), 7L);
+
+        assertThat(fromPc).isEqualTo(fromMobile);
+        assertThat(UserKeyGenerator.fingerprint(request("127.0.0.1", "JUnit"), 8L)).isNotEqualTo(fromPc);
+    }
+
+    private MockHttpServletRequest request(String remoteAddr, String userAgent) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader("User-Agent", userAgent);
+        return request;
+    }
+}
@@ -0,0 +1,79 @@
+package org.restapi.springrestapi.validator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.restapi.springrestapi.finder.UserFinder;
+
+@ExtendWith(MockitoExtension.class)
+class TakenUserNamesTest {
+
+    @Mock
+    UserFinder userFinder;
+
+    @Test
+    @DisplayName("시작 시 읽은 값과 이후 추가한 값은 모두 있을 수도 있음으로 판단한다")
+    void load_andPut_areAlwaysContained() {
+        given(userFinder.findAllNicknames()).willReturn(List.of("alpha"));
+        TakenUserNames names = new TakenUserNames(userFinder, 1000, 0.01);
+        names.load();
+
+        names.putNickname("beta");
+
+        assertThat(names.mightContainNickname("alpha")).isTrue();
+        assertThat(names.mightContainNickname("beta")).isTrue();
+        assertThat(names.mightContainNickname(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("재구성하면 DB 에서 사라진 닉네임은 없음으로 판단하고, 재구성 중에 추가된 닉네임은 유지한다")
+    void rebuild_dropsFreedNicknamesAndKeepsConcurrentPuts() {
+        TakenUserNames names = new TakenUserNames(userFinder, 1000, 0.0001);
+        given(userFinder.findAllNicknames()).willReturn(List.of("alpha", "freed"));
+        names.load();
+        given(userFinder.findAllNicknames()).willAnswer(invocation -> {
+            names.putNickname("joined");
+            return List.of("alpha");
+        });
+
+        names.rebuild();
+
+        assertThat(names.mightContainNickname("alpha")).isTrue();
+        assertThat(names.mightContainNickname("joined")).isTrue();
+        assertThat(names.mightContainNickname("freed")).isFalse();
+    }
+
+    @Test
+    @DisplayName("재구성에 실패하면 기존 filter 를 그대로 쓴다")
+    void rebuild_keepsPreviousFilterOnFailure() {
+        TakenUserNames names = new TakenUserNames(userFinder, 1000, 0.01);
+        given(userFinder.findAllNicknames()).willReturn(List.of("alpha"));
+        names.load();
+        given(userFinder.findAllNicknames()).willThrow(new IllegalStateException("db down"));
+
+        names.rebuild();
+
+        assertThat(names.mightContainNickname("alpha")).isTrue();
+    }
+
+    @Test
+    @DisplayName("넣지 않은 값의 false positive 비율은 설정값 근처로 유지된다")
+    void mightContain_falsePositiveRateStaysNearTarget() {
+        TakenUserNames names = new TakenUserNames(userFinder, 10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> names.putNickname("nick" + i));
+
+        long falsePositives = IntStream.range(0, 10_000)
+            .filter(i -> names.mightContainNickname("other" + i))
+            .count();
+
+        assertThat(falsePositives).isLessThan(300);
+    }
+}
@@ -3,6 +3,7 @@ package org.restapi.springrestapi.validator;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,6 +21,9 @@ class UserValidatorTest {
     @Mock
     UserFinder userFinder;
 
+    @Mock
+    TakenUserNames takenUserNames;
+
     @InjectMocks
     UserValidator userValidator;
 
@@ -56,4 +60,25 @@ class UserValidatorTest {
         verify(userFinder).existsByEmail("user@test.com");
         verify(userFinder).existsByNickName("nickname");
     }
+
+    @Test
+    @DisplayName("가입 검증은 Bloom filter 와 상관없이 항상 DB 로 확인한다")
+    void validateSignUpUser_ignoresFilter() {
+        given(userFinder.existsByNickName("otherNodeNick")).willReturn(true);
+
+        assertThatThrownBy(() -> userValidator.validateSignUpUser("user@test.com", "otherNodeNick"))
+            .isInstanceOf(AppException.class)
+            .satisfies(ex -> org.assertj.core.api.Assertions.assertThat(((AppException) ex).getErrorCode())
+                .isEqualTo(UserErrorCode.NICKNAME_DUPLICATED));
+        verifyNoInteractions(takenUserNames);
+    }
+
+    @Test
+    @DisplayName("사용 가능 여부 안내는 Bloom filter 에 없으면 DB 조회 없이 사용 가능으로 판단한다")
+    void isNicknameTaken_skipsQueryWhenFilterMisses() {
+        given(takenUserNames.mightContainNickname("nickname")).willReturn(false);
+
+        org.assertj.core.api.Assertions.assertThat(userValidator.isNicknameTaken("nickname")).isFalse();
+        verifyNoInteractions(userFinder);
+    }
 }